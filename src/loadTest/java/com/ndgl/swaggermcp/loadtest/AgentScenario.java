@@ -0,0 +1,122 @@
+package com.ndgl.swaggermcp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 가상 에이전트 시나리오
+ * 실제 에이전트처럼 키워드 검색 → 결과 중 일부에 대한 상세 조회를 think time을 두고 반복한다.
+ */
+public class AgentScenario implements Runnable {
+
+    private static final String[] DETAIL_TOOLS = {
+            "getApiDetail", "getRequestFormat", "getResponseFormat", "getErrorFormats"
+    };
+
+    private final McpStreamableClient client;
+    private final LatencyRecorder recorder;
+    private final List<String> keywords;
+    private final int detailCallsPerSearch;
+    private final Duration thinkTime;
+    private final BooleanSupplier running;
+    private final Random random;
+
+    public AgentScenario(final McpStreamableClient client, final LatencyRecorder recorder, final List<String> keywords,
+                         final int detailCallsPerSearch, final Duration thinkTime,
+                         final BooleanSupplier running, final long seed) {
+        this.client = client;
+        this.recorder = recorder;
+        this.keywords = keywords;
+        this.detailCallsPerSearch = detailCallsPerSearch;
+        this.thinkTime = thinkTime;
+        this.running = running;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void run() {
+        try (client) {
+            if (!initialize()) {
+                return;
+            }
+            while (running.getAsBoolean()) {
+                final List<Long> apiIds = search();
+                for (int i = 0; i < detailCallsPerSearch && !apiIds.isEmpty() && running.getAsBoolean(); i++) {
+                    think();
+                    final Long apiId = apiIds.get(random.nextInt(apiIds.size()));
+                    final String tool = DETAIL_TOOLS[random.nextInt(DETAIL_TOOLS.length)];
+                    call(tool, Map.of("apiId", apiId));
+                }
+                think();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 도구 호출 오류는 call()에서 도구별로 집계하므로 여기에는 시나리오 자체의 오류만 온다
+            recorder.recordError("scenario");
+        }
+    }
+
+    /**
+     * 세션 초기화 (실패하면 이 에이전트는 종료)
+     */
+    private boolean initialize() throws InterruptedException {
+        try {
+            client.initialize();
+            return true;
+        } catch (McpStreamableClient.RejectedException e) {
+            recorder.recordRejection("initialize");
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            recorder.recordError("initialize");
+        }
+        return false;
+    }
+
+    private List<Long> search() throws InterruptedException {
+        final String keyword = keywords.get(random.nextInt(keywords.size()));
+        final JsonNode result = call("searchApiByKeyword", Map.of("keyword", keyword));
+
+        final List<Long> apiIds = new ArrayList<>();
+        if (result != null && result.isArray()) {
+            result.forEach(summary -> apiIds.add(summary.path("id").asLong()));
+        }
+        return apiIds;
+    }
+
+    private JsonNode call(final String tool, final Map<String, Object> arguments) throws InterruptedException {
+        final long start = System.nanoTime();
+        try {
+            final JsonNode result = client.callTool(tool, arguments);
+            recorder.record(tool, System.nanoTime() - start);
+            return result;
+        } catch (McpStreamableClient.RejectedException e) {
+            recorder.recordRejection(tool);
+            return null;
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            recorder.recordError(tool);
+            return null;
+        }
+    }
+
+    /**
+     * 평균 think time을 갖는 지수 분포 대기
+     */
+    private void think() throws InterruptedException {
+        final long meanMillis = thinkTime.toMillis();
+        if (meanMillis <= 0) {
+            return;
+        }
+        final long sleepMillis = (long) (-Math.log(1.0 - random.nextDouble()) * meanMillis);
+        Thread.sleep(Math.min(sleepMillis, meanMillis * 10));
+    }
+}
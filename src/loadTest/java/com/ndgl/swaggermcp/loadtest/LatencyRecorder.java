@@ -0,0 +1,110 @@
+package com.ndgl.swaggermcp.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 도구별 응답 시간 기록기
+ * 측정 구간 동안 모든 샘플을 보관하고 종료 시 정렬하여 백분위수를 계산한다.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, ToolSamples> samplesByTool = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    public void start() {
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+    }
+
+    public void record(final String tool, final long elapsedNanos) {
+        if (recording) {
+            samplesByTool.computeIfAbsent(tool, key -> new ToolSamples()).add(elapsedNanos);
+        }
+    }
+
+    public void recordError(final String tool) {
+        if (recording) {
+            samplesByTool.computeIfAbsent(tool, key -> new ToolSamples()).errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * 한도 초과로 거부된 호출 (429, bulkhead)
+     */
+    public void recordRejection(final String tool) {
+        if (recording) {
+            samplesByTool.computeIfAbsent(tool, key -> new ToolSamples()).rejections.incrementAndGet();
+        }
+    }
+
+    /**
+     * 도구 이름 순으로 정렬된 통계 스냅샷
+     */
+    public Map<String, ToolStatistics> snapshot() {
+        final Map<String, ToolStatistics> result = new TreeMap<>();
+        samplesByTool.forEach((tool, samples) -> result.put(tool, samples.statistics()));
+        return result;
+    }
+
+    public long totalCalls() {
+        return samplesByTool.values().stream().mapToLong(ToolSamples::count).sum();
+    }
+
+    public record ToolStatistics(long count, long errors, long rejections, double p50Millis, double p95Millis,
+                                 double p99Millis, double maxMillis) {
+    }
+
+    private static final class ToolSamples {
+
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong rejections = new AtomicLong();
+        private long[] values = new long[1024];
+        private int size;
+
+        private synchronized void add(final long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private synchronized long count() {
+            return size;
+        }
+
+        private synchronized ToolStatistics statistics() {
+            final long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return new ToolStatistics(
+                    size,
+                    errors.get(),
+                    rejections.get(),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1])
+            );
+        }
+
+        private static double percentile(final long[] sorted, final double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+        }
+
+        private static double toMillis(final long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
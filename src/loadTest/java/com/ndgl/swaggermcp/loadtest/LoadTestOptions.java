@@ -0,0 +1,101 @@
+package com.ndgl.swaggermcp.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트 실행 옵션
+ * Gradle 실행 시 -Ploadtest.xxx 프로퍼티가 System Property로 전달된다.
+ */
+public record LoadTestOptions(
+        /**
+         * 외부 서버 Base URL (지정하지 않으면 내장 H2 서버를 띄워서 사용)
+         */
+        String baseUrl,
+
+        /**
+         * MCP 인증 토큰
+         */
+        String token,
+
+        /**
+         * 합성 Swagger 스펙의 엔드포인트 수
+         */
+        int endpoints,
+
+        /**
+         * 측정할 동시 에이전트 수 목록
+         */
+        List<Integer> concurrencyLevels,
+
+        /**
+         * 동시성 단계별 워밍업 시간
+         */
+        Duration warmup,
+
+        /**
+         * 동시성 단계별 측정 시간
+         */
+        Duration duration,
+
+        /**
+         * 도구 호출 사이의 평균 think time
+         */
+        Duration thinkTime,
+
+        /**
+         * 검색 1회당 상세 조회 호출 수
+         */
+        int detailCallsPerSearch,
+
+        /**
+         * 난수 시드 (스펙 생성 및 시나리오 재현용)
+         */
+        long seed
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                property("baseUrl", null),
+                property("token", "load-test-token"),
+                Integer.parseInt(property("endpoints", "2000")),
+                Arrays.stream(property("concurrency", "1,4,16,64").split(","))
+                        .map(String::trim)
+                        .map(Integer::parseInt)
+                        .toList(),
+                parseDuration(property("warmup", "5s")),
+                parseDuration(property("duration", "20s")),
+                parseDuration(property("thinkTime", "50ms")),
+                Integer.parseInt(property("detailCalls", "3")),
+                Long.parseLong(property("seed", "42"))
+        );
+    }
+
+    public boolean embedded() {
+        return baseUrl == null || baseUrl.isBlank();
+    }
+
+    private static String property(final String key, final String defaultValue) {
+        return System.getProperty(PREFIX + key, defaultValue);
+    }
+
+    /**
+     * "500ms", "30s", "2m" 형식의 기간 파싱
+     */
+    private static Duration parseDuration(final String value) {
+        final String trimmed = value.trim();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofMillis(Long.parseLong(trimmed));
+    }
+}
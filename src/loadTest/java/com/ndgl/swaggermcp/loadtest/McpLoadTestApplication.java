@@ -0,0 +1,152 @@
+package com.ndgl.swaggermcp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ndgl.swaggermcp.SwaggerMcpServerApplication;
+import com.ndgl.swaggermcp.sync.application.usecase.SyncSwaggerUseCase;
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncResult;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MCP 부하 테스트 실행기
+ *
+ * 1. loadtest 프로파일(H2 in-memory)로 서버를 내장 기동
+ * 2. 합성 스펙을 로컬 HTTP로 서빙하고 실제 동기화 경로(SyncSwaggerUseCase)로 적재
+ * 3. 동시성 단계별로 가상 에이전트를 띄워 /mcp 를 호출하고 도구별 p50/p95/p99, 처리량을 출력
+ *
+ * loadtest.baseUrl 을 지정하면 내장 서버 없이 이미 떠 있는 서버를 대상으로 측정한다.
+ */
+public final class McpLoadTestApplication {
+
+    private McpLoadTestApplication() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final SyntheticSpecGenerator generator = new SyntheticSpecGenerator(objectMapper, options.seed());
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        try {
+            if (options.embedded()) {
+                context = new SpringApplicationBuilder(SwaggerMcpServerApplication.class)
+                        .profiles("loadtest")
+                        .properties("mcp.auth.token=" + options.token())
+                        .run(args);
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                seed(context, objectMapper, generator, options.endpoints());
+            }
+
+            final List<String> report = new ArrayList<>();
+            for (final int concurrency : options.concurrencyLevels()) {
+                report.addAll(runLevel(options, objectMapper, generator.keywords(), baseUrl, concurrency));
+            }
+
+            System.out.println();
+            System.out.println("=== MCP load test (" + options.endpoints() + " endpoints, think "
+                    + options.thinkTime().toMillis() + "ms, " + options.duration().toSeconds() + "s/level) ===");
+            System.out.printf("%-11s %-20s %8s %6s %8s %9s %9s %9s %9s %10s%n",
+                    "concurrency", "tool", "calls", "errors", "rejected", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "calls/s");
+            report.forEach(System.out::println);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * 합성 스펙을 로컬 HTTP 서버로 제공하고 실제 동기화 UseCase로 적재
+     */
+    private static void seed(final ConfigurableApplicationContext context, final ObjectMapper objectMapper,
+                             final SyntheticSpecGenerator generator, final int endpoints) throws Exception {
+        final byte[] spec = objectMapper.writeValueAsBytes(generator.generate(endpoints));
+
+        final HttpServer specServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        specServer.createContext("/v3/api-docs", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, spec.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(spec);
+            }
+        });
+        specServer.start();
+
+        try {
+            final String specUrl = "http://localhost:" + specServer.getAddress().getPort() + "/v3/api-docs";
+            final long start = System.nanoTime();
+            final SwaggerSyncResult result = context.getBean(SyncSwaggerUseCase.class).syncSwagger(specUrl);
+            if (!result.success()) {
+                throw new IllegalStateException("시드 동기화 실패: " + result.message());
+            }
+            System.out.printf("Seeded %d endpoints (%d KB spec) in %d ms%n", result.totalEndpoints(),
+                    spec.length / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            specServer.stop(0);
+        }
+    }
+
+    /**
+     * 하나의 동시성 단계 실행 (워밍업 후 측정)
+     */
+    private static List<String> runLevel(final LoadTestOptions options, final ObjectMapper objectMapper,
+                                         final List<String> keywords, final String baseUrl,
+                                         final int concurrency) throws Exception {
+        final LatencyRecorder recorder = new LatencyRecorder();
+        final HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        final AtomicBoolean running = new AtomicBoolean(true);
+
+        final List<Future<?>> agents = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                final McpStreamableClient client =
+                        new McpStreamableClient(httpClient, objectMapper, baseUrl, options.token());
+                agents.add(executor.submit(new AgentScenario(client, recorder, keywords,
+                        options.detailCallsPerSearch(), options.thinkTime(), running::get,
+                        options.seed() + concurrency * 1000L + i)));
+            }
+
+            Thread.sleep(options.warmup().toMillis());
+            recorder.start();
+            final long start = System.nanoTime();
+            Thread.sleep(options.duration().toMillis());
+            recorder.stop();
+            final double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            running.set(false);
+
+            for (final Future<?> agent : agents) {
+                agent.get();
+            }
+
+            return format(concurrency, recorder.snapshot(), recorder.totalCalls() / elapsedSeconds, elapsedSeconds);
+        }
+    }
+
+    private static List<String> format(final int concurrency, final Map<String, LatencyRecorder.ToolStatistics> stats,
+                                       final double throughput, final double elapsedSeconds) {
+        final List<String> lines = new ArrayList<>();
+        stats.forEach((tool, s) -> lines.add(String.format("%-11d %-20s %8d %6d %8d %9.2f %9.2f %9.2f %9.2f %10.1f",
+                concurrency, tool, s.count(), s.errors(), s.rejections(), s.p50Millis(), s.p95Millis(), s.p99Millis(),
+                s.maxMillis(), s.count() / elapsedSeconds)));
+        lines.add(String.format("%-11d %-20s %8s %6s %8s %9s %9s %9s %9s %10.1f",
+                concurrency, "(all tools)", "", "", "", "", "", "", "", throughput));
+        return lines;
+    }
+}
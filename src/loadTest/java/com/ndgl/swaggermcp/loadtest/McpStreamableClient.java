@@ -0,0 +1,181 @@
+package com.ndgl.swaggermcp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ndgl.swaggermcp.common.concurrency.BulkheadFullException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MCP Streamable HTTP 최소 클라이언트
+ * 실제 에이전트와 같은 순서(initialize → notifications/initialized → tools/call)로 /mcp 를 호출한다.
+ * 응답은 application/json 또는 text/event-stream 모두 처리한다.
+ */
+public class McpStreamableClient implements AutoCloseable {
+
+    /**
+     * 서버가 한도 때문에 거부한 호출 (토큰 rate limit의 HTTP 429 또는 bulkhead 초과)
+     * 오류와 따로 집계한다.
+     */
+    public static final class RejectedException extends IllegalStateException {
+
+        public RejectedException(final String message) {
+            super(message);
+        }
+    }
+
+    private static final String PROTOCOL_VERSION = "2025-03-26";
+    private static final String SESSION_HEADER = "Mcp-Session-Id";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI endpoint;
+    private final String token;
+    private final AtomicLong requestId = new AtomicLong();
+
+    private String sessionId;
+
+    public McpStreamableClient(final HttpClient httpClient, final ObjectMapper objectMapper,
+                               final String baseUrl, final String token) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.endpoint = URI.create(baseUrl + "/mcp");
+        this.token = token;
+    }
+
+    /**
+     * 세션 초기화 (initialize + notifications/initialized)
+     */
+    public void initialize() throws IOException, InterruptedException {
+        final ObjectNode params = objectMapper.createObjectNode();
+        params.put("protocolVersion", PROTOCOL_VERSION);
+        params.putObject("capabilities");
+        params.putObject("clientInfo").put("name", "mcp-load-test").put("version", "0.0.1");
+
+        final HttpResponse<String> response = post(request("initialize", params));
+        readResult(response);
+        sessionId = response.headers().firstValue(SESSION_HEADER).orElse(null);
+
+        final ObjectNode initialized = objectMapper.createObjectNode();
+        initialized.put("jsonrpc", "2.0");
+        initialized.put("method", "notifications/initialized");
+        post(initialized);
+    }
+
+    /**
+     * 도구 호출 후 결과 텍스트(JSON)를 파싱하여 반환
+     *
+     * @param toolName 도구 이름
+     * @param arguments 도구 인자
+     * @return 도구 결과 (content[0].text 를 JSON으로 파싱한 값)
+     */
+    public JsonNode callTool(final String toolName, final Map<String, Object> arguments)
+            throws IOException, InterruptedException {
+        final ObjectNode params = objectMapper.createObjectNode();
+        params.put("name", toolName);
+        params.set("arguments", objectMapper.valueToTree(arguments));
+
+        final JsonNode result = readResult(post(request("tools/call", params)));
+        if (result.path("isError").asBoolean(false)) {
+            final String content = result.path("content").toString();
+            if (content.contains(BulkheadFullException.MESSAGE_PREFIX)) {
+                throw new RejectedException("Tool 호출 거부: " + toolName + " " + content);
+            }
+            throw new IllegalStateException("Tool 호출 실패: " + toolName + " " + content);
+        }
+
+        final String text = result.path("content").path(0).path("text").asText("");
+        return text.isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(text);
+    }
+
+    @Override
+    public void close() {
+        if (sessionId == null) {
+            return;
+        }
+
+        final HttpRequest request = authorized(HttpRequest.newBuilder(endpoint))
+                .header(SESSION_HEADER, sessionId)
+                .DELETE()
+                .build();
+        try {
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            // 세션 종료 실패는 측정 결과에 영향을 주지 않으므로 무시
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ObjectNode request(final String method, final ObjectNode params) {
+        final ObjectNode request = objectMapper.createObjectNode();
+        request.put("jsonrpc", "2.0");
+        request.put("id", requestId.incrementAndGet());
+        request.put("method", method);
+        request.set("params", params);
+        return request;
+    }
+
+    private HttpResponse<String> post(final ObjectNode body) throws IOException, InterruptedException {
+        final HttpRequest.Builder builder = authorized(HttpRequest.newBuilder(endpoint))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (sessionId != null) {
+            builder.header(SESSION_HEADER, sessionId);
+        }
+
+        final HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 429) {
+            throw new RejectedException("MCP 요청 거부: HTTP 429 (Retry-After "
+                    + response.headers().firstValue("Retry-After").orElse("-") + ")");
+        }
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("MCP 요청 실패: HTTP " + response.statusCode() + " " + response.body());
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder authorized(final HttpRequest.Builder builder) {
+        return builder.header("Authorization", "Bearer " + token);
+    }
+
+    /**
+     * JSON-RPC 응답의 result 추출 (SSE인 경우 마지막 data 이벤트 사용)
+     */
+    private JsonNode readResult(final HttpResponse<String> response) throws IOException {
+        final String contentType = response.headers().firstValue("Content-Type").orElse("");
+        final String payload = contentType.startsWith("text/event-stream")
+                ? lastEventData(response.body())
+                : response.body();
+
+        final JsonNode message = objectMapper.readTree(payload);
+        if (message.has("error")) {
+            throw new IllegalStateException("JSON-RPC 오류: " + message.get("error"));
+        }
+        return message.path("result");
+    }
+
+    private String lastEventData(final String body) {
+        String last = "";
+        final StringBuilder current = new StringBuilder();
+        for (final String line : body.split("\r?\n")) {
+            if (line.startsWith("data:")) {
+                current.append(line.substring(5).trim());
+            } else if (line.isEmpty() && !current.isEmpty()) {
+                last = current.toString();
+                current.setLength(0);
+            }
+        }
+        return current.isEmpty() ? last : current.toString();
+    }
+}
@@ -0,0 +1,301 @@
+package com.ndgl.swaggermcp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 합성 OpenAPI 3.0 스펙 생성기
+ * 실제 백엔드 없이 동기화/검색 부하를 재현하기 위해 NDGL 백엔드와 비슷한 모양의 스펙을 만든다.
+ * (한글 summary/tag, 중첩 $ref, 페이지네이션 래퍼, DOMAIN-CATEGORY-DETAIL 에러 코드)
+ */
+public class SyntheticSpecGenerator {
+
+    private static final String[][] RESOURCES = {
+            {"users", "User", "사용자", "USR"},
+            {"travels", "Travel", "여행", "TRV"},
+            {"places", "Place", "장소", "PLC"},
+            {"reviews", "Review", "리뷰", "REV"},
+            {"coupons", "Coupon", "쿠폰", "CPN"},
+            {"bookings", "Booking", "예약", "BKG"},
+            {"payments", "Payment", "결제", "PAY"},
+            {"schedules", "Schedule", "일정", "SCH"},
+            {"photos", "Photo", "사진", "PHT"},
+            {"comments", "Comment", "댓글", "CMT"},
+            {"notifications", "Notification", "알림", "NTF"},
+            {"auth", "Auth", "인증", "AUTH"}
+    };
+
+    private static final String[] OPERATIONS = {"list", "create", "get", "update", "delete", "search"};
+
+    private final ObjectMapper objectMapper;
+    private final Random random;
+
+    public SyntheticSpecGenerator(final ObjectMapper objectMapper, final long seed) {
+        this.objectMapper = objectMapper;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 지정한 개수의 operation을 가진 스펙 생성
+     *
+     * @param endpointCount 생성할 operation 수
+     * @return OpenAPI JSON
+     */
+    public ObjectNode generate(final int endpointCount) {
+        final ObjectNode root = objectMapper.createObjectNode();
+        root.put("openapi", "3.0.1");
+        root.putObject("info").put("title", "Synthetic NDGL API").put("version", "v1");
+
+        final ObjectNode schemas = root.putObject("components").putObject("schemas");
+        addCommonSchemas(schemas);
+        for (final String[] resource : RESOURCES) {
+            addResourceSchemas(schemas, resource);
+        }
+
+        final ObjectNode paths = root.putObject("paths");
+        for (int i = 0; i < endpointCount; i++) {
+            final String[] resource = RESOURCES[i % RESOURCES.length];
+            final String operation = OPERATIONS[(i / RESOURCES.length) % OPERATIONS.length];
+            final int group = i / (RESOURCES.length * OPERATIONS.length);
+            addOperation(paths, resource, operation, group);
+        }
+
+        return root;
+    }
+
+    /**
+     * 시나리오에서 사용할 검색 키워드 (정확한 키워드 + 한글 + 오타)
+     */
+    public List<String> keywords() {
+        final List<String> keywords = new ArrayList<>();
+        for (final String[] resource : RESOURCES) {
+            keywords.add(resource[0]);
+            keywords.add(resource[2]);
+            keywords.add(resource[2] + " 조회");
+            keywords.add(misspell(resource[0]));
+        }
+        return keywords;
+    }
+
+    private void addOperation(final ObjectNode paths, final String[] resource, final String operation, final int group) {
+        final String plural = resource[0];
+        final String dto = resource[1];
+        final String korean = resource[2];
+        final String idName = singular(plural) + "Id";
+        final String base = "/api/v1/" + plural + (group == 0 ? "" : "-" + group);
+
+        final String path;
+        final String method;
+        final String summary;
+        switch (operation) {
+            case "list" -> {
+                path = base;
+                method = "get";
+                summary = korean + " 목록 조회";
+            }
+            case "create" -> {
+                path = base;
+                method = "post";
+                summary = korean + " 생성";
+            }
+            case "get" -> {
+                path = base + "/{" + idName + "}";
+                method = "get";
+                summary = korean + " 상세 조회";
+            }
+            case "update" -> {
+                path = base + "/{" + idName + "}";
+                method = "put";
+                summary = korean + " 수정";
+            }
+            case "delete" -> {
+                path = base + "/{" + idName + "}";
+                method = "delete";
+                summary = korean + " 삭제";
+            }
+            default -> {
+                path = "/api/v1/users/{userId}/" + plural + (group == 0 ? "" : "-" + group) + "/search";
+                method = "get";
+                summary = "사용자별 " + korean + " 검색";
+            }
+        }
+
+        final ObjectNode pathItem = paths.has(path) ? (ObjectNode) paths.get(path) : paths.putObject(path);
+        final ObjectNode op = pathItem.putObject(method);
+        op.putArray("tags").add(korean);
+        op.put("summary", summary);
+        op.put("description", korean + " API 입니다. " + dto + " 도메인의 " + operation + " 기능을 제공합니다.");
+        op.put("operationId", operation + dto + (group == 0 ? "" : "_" + group));
+
+        final ArrayNode parameters = op.putArray("parameters");
+        if (path.contains("{userId}")) {
+            addParameter(parameters, "userId", "path", true, "integer", "int64");
+        }
+        if (path.contains("{" + idName + "}") && !"userId".equals(idName)) {
+            addParameter(parameters, idName, "path", true, "integer", "int64");
+        }
+        if ("list".equals(operation) || "search".equals(operation)) {
+            addParameter(parameters, "page", "query", false, "integer", "int32");
+            addParameter(parameters, "size", "query", false, "integer", "int32");
+            addParameter(parameters, "keyword", "query", false, "string", null);
+        }
+        addParameter(parameters, "X-Request-Id", "header", false, "string", "uuid");
+
+        if ("create".equals(operation) || "update".equals(operation)) {
+            final ObjectNode requestBody = op.putObject("requestBody");
+            requestBody.put("required", true);
+            requestBody.putObject("content").putObject("application/json").putObject("schema")
+                    .put("$ref", "#/components/schemas/" + dto + "CreateRequest");
+        }
+
+        final ObjectNode responses = op.putObject("responses");
+        switch (operation) {
+            case "list", "search" -> addSuccess(responses, "200", "Page" + dto + "Response");
+            case "create" -> addSuccess(responses, "201", dto + "Response");
+            case "delete" -> responses.putObject("204").put("description", "No Content");
+            default -> addSuccess(responses, "200", dto + "Response");
+        }
+
+        addError(responses, "400", resource[3] + "-VALID-001", korean + " 요청 값이 올바르지 않습니다");
+        if (path.contains("{" + idName + "}")) {
+            addError(responses, "404", resource[3] + "-NOT_FOUND-001", korean + "을(를) 찾을 수 없습니다");
+        }
+        if (random.nextInt(4) == 0) {
+            addError(responses, "401", "AUTH-TOKEN-001", "인증 토큰이 만료되었습니다");
+        }
+    }
+
+    private void addParameter(final ArrayNode parameters, final String name, final String in,
+                              final boolean required, final String type, final String format) {
+        final ObjectNode parameter = parameters.addObject();
+        parameter.put("name", name);
+        parameter.put("in", in);
+        parameter.put("required", required);
+        parameter.put("description", name + " 파라미터");
+        final ObjectNode schema = parameter.putObject("schema");
+        schema.put("type", type);
+        if (format != null) {
+            schema.put("format", format);
+        }
+    }
+
+    private void addSuccess(final ObjectNode responses, final String status, final String dtoName) {
+        final ObjectNode response = responses.putObject(status);
+        response.put("description", "OK");
+        response.putObject("content").putObject("*/*").putObject("schema")
+                .put("$ref", "#/components/schemas/" + dtoName);
+    }
+
+    private void addError(final ObjectNode responses, final String status, final String code, final String message) {
+        final ObjectNode response = responses.putObject(status);
+        response.put("description", message);
+        final ObjectNode content = response.putObject("content").putObject("*/*");
+        content.putObject("schema").put("$ref", "#/components/schemas/ErrorResponse");
+        final ObjectNode example = content.putObject("example");
+        example.put("code", code);
+        example.put("message", message);
+        example.putArray("errors");
+    }
+
+    private void addCommonSchemas(final ObjectNode schemas) {
+        final ObjectNode address = objectSchema(schemas, "Address", "zipCode", "city");
+        stringProperty(address, "zipCode", "06236");
+        stringProperty(address, "city", "서울");
+        stringProperty(address, "street", "테헤란로 123");
+
+        final ObjectNode userSummary = objectSchema(schemas, "UserSummary", "id");
+        integerProperty(userSummary, "id", 1);
+        stringProperty(userSummary, "nickname", "여행자");
+        refProperty(userSummary, "address", "Address");
+
+        final ObjectNode fieldError = objectSchema(schemas, "FieldError", "field");
+        stringProperty(fieldError, "field", "name");
+        stringProperty(fieldError, "message", "필수 값입니다");
+
+        final ObjectNode errorResponse = objectSchema(schemas, "ErrorResponse", "code", "message");
+        stringProperty(errorResponse, "code", "COMMON-ERROR-001");
+        stringProperty(errorResponse, "message", "오류가 발생했습니다");
+        final ObjectNode errors = ((ObjectNode) errorResponse.get("properties")).putObject("errors");
+        errors.put("type", "array");
+        errors.putObject("items").put("$ref", "#/components/schemas/FieldError");
+    }
+
+    private void addResourceSchemas(final ObjectNode schemas, final String[] resource) {
+        final String dto = resource[1];
+        final String korean = resource[2];
+
+        final ObjectNode response = objectSchema(schemas, dto + "Response", "id", "name");
+        integerProperty(response, "id", 1);
+        stringProperty(response, "name", korean + " 이름");
+        stringProperty(response, "description", korean + " 설명");
+        stringProperty(response, "createdAt", "2025-01-01T00:00:00");
+        refProperty(response, "owner", "UserSummary");
+        refProperty(response, "address", "Address");
+        final ObjectNode tags = ((ObjectNode) response.get("properties")).putObject("tags");
+        tags.put("type", "array");
+        tags.putObject("items").put("type", "string");
+
+        final ObjectNode request = objectSchema(schemas, dto + "CreateRequest", "name");
+        stringProperty(request, "name", korean + " 이름");
+        stringProperty(request, "description", korean + " 설명");
+        refProperty(request, "address", "Address");
+
+        final ObjectNode page = objectSchema(schemas, "Page" + dto + "Response", "content");
+        final ObjectNode content = ((ObjectNode) page.get("properties")).putObject("content");
+        content.put("type", "array");
+        content.putObject("items").put("$ref", "#/components/schemas/" + dto + "Response");
+        integerProperty(page, "page", 0);
+        integerProperty(page, "size", 20);
+        integerProperty(page, "totalElements", 100);
+    }
+
+    private ObjectNode objectSchema(final ObjectNode schemas, final String name, final String... required) {
+        final ObjectNode schema = schemas.putObject(name);
+        schema.put("type", "object");
+        final ArrayNode requiredArray = schema.putArray("required");
+        for (final String field : required) {
+            requiredArray.add(field);
+        }
+        schema.putObject("properties");
+        return schema;
+    }
+
+    private void stringProperty(final ObjectNode schema, final String name, final String example) {
+        ((ObjectNode) schema.get("properties")).putObject(name).put("type", "string").put("example", example);
+    }
+
+    private void integerProperty(final ObjectNode schema, final String name, final int example) {
+        ((ObjectNode) schema.get("properties")).putObject(name)
+                .put("type", "integer").put("format", "int64").put("example", example);
+    }
+
+    private void refProperty(final ObjectNode schema, final String name, final String dtoName) {
+        ((ObjectNode) schema.get("properties")).putObject(name).put("$ref", "#/components/schemas/" + dtoName);
+    }
+
+    private String singular(final String plural) {
+        if ("auth".equals(plural)) {
+            return "auth";
+        }
+        return plural.endsWith("s") ? plural.substring(0, plural.length() - 1) : plural;
+    }
+
+    /**
+     * 인접한 두 글자를 바꿔 오타 키워드 생성 (travels → tarvels)
+     */
+    private String misspell(final String word) {
+        if (word.length() < 3) {
+            return word;
+        }
+        final char[] chars = word.toCharArray();
+        final char tmp = chars[1];
+        chars[1] = chars[2];
+        chars[2] = tmp;
+        return new String(chars);
+    }
+}
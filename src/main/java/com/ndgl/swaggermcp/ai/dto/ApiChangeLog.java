@@ -0,0 +1,26 @@
+package com.ndgl.swaggermcp.ai.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동기화 1회의 스펙 변경 내역 (operation 키: "sourceId METHOD path")
+ */
+public record ApiChangeLog(
+        Long id,
+        LocalDateTime syncedAt,
+        String backendUrl,
+        String swaggerVersion,
+        String previousSwaggerVersion,
+        List<String> added,
+        List<String> removed,
+
+        /**
+         * 변경된 operation → 변경 섹션 (info, request, parameters, response.200, error.404 등)
+         */
+        Map<String, List<String>> modified,
+
+        Integer unchangedCount
+) {
+}
@@ -0,0 +1,28 @@
+package com.ndgl.swaggermcp.ai.dto;
+
+import java.util.List;
+
+/**
+ * 인자 자동완성 결과
+ */
+public record ApiCompletion(
+        /**
+         * path / tag / operationId / errorCode
+         */
+        String argument,
+
+        String prefix,
+
+        /**
+         * prefix로 시작하는 값 (사전순)
+         */
+        List<String> values,
+
+        /**
+         * prefix로 시작하는 전체 값 수
+         */
+        Integer total,
+
+        Boolean hasMore
+) {
+}
@@ -0,0 +1,47 @@
+package com.ndgl.swaggermcp.ai.dto;
+
+import java.util.List;
+
+/**
+ * 구조화 검색 조건 (지정하지 않은 항목은 조건 없음)
+ */
+public record ApiSearchFilter(
+        /**
+         * 검색 키워드 (없으면 조건만으로 조회)
+         */
+        String keyword,
+
+        /**
+         * HTTP method 중 하나 (예: POST, PUT)
+         */
+        List<String> methods,
+
+        /**
+         * tag 중 하나 (대소문자 무시)
+         */
+        List<String> tags,
+
+        Boolean hasRequestBody,
+
+        /**
+         * 응답할 수 있는 상태 코드 (성공/에러 모두 포함)
+         */
+        Integer statusCode,
+
+        String parameterName,
+
+        /**
+         * path / query / header / cookie
+         */
+        String parameterIn,
+
+        /**
+         * path 앞부분 (예: /api/v1/users)
+         */
+        String pathPrefix
+) {
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ndgl.swaggermcp.ai.dto;
+
+import java.util.List;
+
+/**
+ * 토큰 예산이 적용된 MCP Tool 응답
+ * 예산을 넘는 지점에서 잘라내고, 나머지는 nextCursor로 이어서 조회한다.
+ */
+public record BudgetedResponse(
+        /**
+         * 이번 응답에 포함된 항목 (검색 결과 또는 ContentSection)
+         */
+        List<Object> items,
+
+        /**
+         * 이번 응답의 시작 위치
+         */
+        Integer offset,
+
+        /**
+         * 전체 항목 수
+         */
+        Integer totalItems,
+
+        /**
+         * 이번 응답의 추정 토큰 수
+         */
+        Integer estimatedTokens,
+
+        /**
+         * 예산 때문에 잘렸는지 여부
+         */
+        Boolean truncated,
+
+        /**
+         * 다음 조회용 cursor (마지막 페이지면 null)
+         */
+        String nextCursor
+) {
+}
@@ -0,0 +1,12 @@
+package com.ndgl.swaggermcp.ai.dto;
+
+/**
+ * 상세 조회 결과를 토큰 예산 단위로 나눈 조각
+ * (예: section="request.body", key="email", value=FieldInfo)
+ */
+public record ContentSection(
+        String section,
+        String key,
+        Object value
+) {
+}
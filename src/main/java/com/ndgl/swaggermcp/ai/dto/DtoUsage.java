@@ -0,0 +1,29 @@
+package com.ndgl.swaggermcp.ai.dto;
+
+/**
+ * DTO 사용 위치 (DTO 역참조 조회용)
+ */
+public record DtoUsage(
+        /**
+         * DTO를 사용하는 API
+         */
+        ApiSummary api,
+
+        String dtoName,
+
+        /**
+         * request / response / error
+         */
+        String direction,
+
+        /**
+         * response / error 상태 코드 (request는 null)
+         */
+        Integer statusCode,
+
+        /**
+         * 0 = body 자체, 1 = body의 직접 필드, 2 이상 = 다른 DTO를 거친 간접 참조
+         */
+        Integer depth
+) {
+}
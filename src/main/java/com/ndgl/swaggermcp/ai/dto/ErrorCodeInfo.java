@@ -0,0 +1,23 @@
+package com.ndgl.swaggermcp.ai.dto;
+
+import java.util.List;
+
+/**
+ * 에러 코드 카탈로그 조회 결과
+ * 같은 에러가 여러 API에서 반복되면 하나로 합치고 API 목록만 모은다.
+ */
+public record ErrorCodeInfo(
+        String code,
+        Integer statusCode,
+        String message,
+        String domainCode,
+        String categoryCode,
+        String detailCode,
+        String description,
+
+        /**
+         * 이 에러를 응답할 수 있는 API
+         */
+        List<ApiSummary> endpoints
+) {
+}
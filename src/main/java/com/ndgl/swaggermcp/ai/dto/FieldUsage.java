@@ -0,0 +1,36 @@
+package com.ndgl.swaggermcp.ai.dto;
+
+/**
+ * 필드 사용 위치 (필드 역색인 조회용)
+ */
+public record FieldUsage(
+        /**
+         * 필드를 사용하는 API
+         */
+        ApiSummary api,
+
+        /**
+         * request / response / parameter
+         */
+        String direction,
+
+        /**
+         * response 상태 코드 (request, parameter는 null)
+         */
+        Integer statusCode,
+
+        /**
+         * body / path / query / header / cookie
+         */
+        String location,
+
+        /**
+         * 필드 경로 (예: data.travels[].travelId)
+         */
+        String path,
+
+        String type,
+
+        Boolean required
+) {
+}
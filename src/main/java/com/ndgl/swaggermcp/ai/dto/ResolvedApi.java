@@ -0,0 +1,24 @@
+package com.ndgl.swaggermcp.ai.dto;
+
+import java.util.Map;
+
+/**
+ * 실제 URL로 찾은 API (URL 조회용)
+ */
+public record ResolvedApi(
+        /**
+         * 일치한 API 요약 (path는 template)
+         */
+        ApiSummary api,
+
+        /**
+         * API가 속한 source id (resource URI의 {source}, 여러 스펙에 같은 template이 있을 때 구분용)
+         */
+        String sourceId,
+
+        /**
+         * template 변수 이름 → URL의 실제 값 (예: userId → 42)
+         */
+        Map<String, String> pathVariables
+) {
+}
@@ -0,0 +1,72 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import com.ndgl.swaggermcp.ai.dto.ApiSummary;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동기화 시점의 엔드포인트 검색 인덱스 묶음 (불변)
+ * 동기화가 끝날 때마다 새로 만들어 통째로 교체하므로 조회 쪽은 락 없이 읽는다.
+ */
+public record ApiIndexSnapshot(
+        /**
+         * 인덱스 문서 번호 순서의 엔드포인트 요약
+         */
+        List<ApiSummary> summaries,
+
+        /**
+         * API ID → 문서 번호
+         */
+        Map<Long, Integer> documents,
+
+        /**
+         * path / summary / description / operationId / tags bigram 인덱스
+         */
+        NgramIndex ngramIndex,
+
+        /**
+         * method + path template segment trie
+         */
+        PathTemplateTrie pathTrie,
+
+        /**
+         * 필드 이름 → request / response / parameter 사용 위치
+         */
+        FieldIndex fieldIndex,
+
+        /**
+         * 에러 코드 → 메시지 / 발생 API (중복 제거)
+         */
+        ErrorCatalog errorCatalog,
+
+        /**
+         * DTO 이름 → 사용 API (직접/간접 참조)
+         */
+        DtoUsageIndex dtoUsageIndex,
+
+        /**
+         * method / tag / 상태 코드 / 파라미터 / path prefix bitmap
+         */
+        FilterIndex filterIndex,
+
+        /**
+         * path / tag / operationId / errorCode 자동완성 사전
+         */
+        CompletionIndex completionIndex
+) {
+
+    public static ApiIndexSnapshot empty() {
+        return new ApiIndexSnapshot(
+                List.of(),
+                Map.of(),
+                NgramIndex.builder().build(),
+                PathTemplateTrie.builder().build(),
+                FieldIndex.builder().build(),
+                ErrorCatalog.builder().build(),
+                DtoUsageIndex.builder().build(),
+                FilterIndex.builder().build(),
+                CompletionIndex.builder().build()
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인자 자동완성용 prefix 사전 (빌드 후 불변)
+ *
+ * 항목(path, tag, operationId, errorCode)마다 소문자 키를 정렬한 배열을 두고, prefix에 해당하는 연속 구간을 이진 탐색 두 번으로 찾는다.
+ * 정렬 배열은 같은 prefix 질의를 trie와 같은 O(log n + k)로 처리하면서 노드 객체 없이 문자열 배열 두 개만 쓴다.
+ */
+public final class CompletionIndex {
+
+    private final Map<String, Dictionary> dictionaries;
+
+    private CompletionIndex(final Map<String, Dictionary> dictionaries) {
+        this.dictionaries = Map.copyOf(dictionaries);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 자동완성 결과
+     *
+     * @param values prefix로 시작하는 값 (사전순, 최대 limit개)
+     * @param total prefix로 시작하는 전체 값 수
+     */
+    public record Completion(List<String> values, int total) {
+
+        public boolean hasMore() {
+            return total > values.size();
+        }
+    }
+
+    public Set<String> fields() {
+        return dictionaries.keySet();
+    }
+
+    /**
+     * prefix 자동완성 (대소문자 무시)
+     *
+     * @param field path / tag / operationId / errorCode
+     * @param prefix 입력 중인 값 (null이면 전체)
+     * @param limit 최대 반환 수
+     */
+    public Completion complete(final String field, final String prefix, final int limit) {
+        final Dictionary dictionary = dictionaries.get(field);
+        if (dictionary == null) {
+            return new Completion(List.of(), 0);
+        }
+        return dictionary.complete(prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT), limit);
+    }
+
+    private static final class Dictionary {
+
+        private final String[] keys;
+        private final String[] values;
+
+        private Dictionary(final Map<String, String> valuesByKey) {
+            final List<Map.Entry<String, String>> entries = new ArrayList<>(valuesByKey.entrySet());
+            entries.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+            this.keys = new String[entries.size()];
+            this.values = new String[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).getKey();
+                values[i] = entries.get(i).getValue();
+            }
+        }
+
+        private Completion complete(final String prefix, final int limit) {
+            final int from = lowerBound(prefix);
+            // prefix로 시작하는 키는 모두 prefix + Character.MAX_VALUE 보다 작다
+            final int to = lowerBound(prefix + Character.MAX_VALUE);
+            final int end = Math.min(to, from + Math.max(limit, 0));
+            return new Completion(List.of(Arrays.copyOfRange(values, from, end)), to - from);
+        }
+
+        private int lowerBound(final String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * CompletionIndex 빌더
+     */
+    public static final class Builder {
+
+        private final Map<String, Map<String, String>> valuesByField = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 값 추가 (대소문자만 다른 값은 처음 추가한 것을 유지)
+         */
+        public Builder add(final String field, final String value) {
+            if (value != null && !value.isBlank()) {
+                valuesByField.computeIfAbsent(field, ignored -> new HashMap<>())
+                        .putIfAbsent(value.toLowerCase(Locale.ROOT), value);
+            }
+            return this;
+        }
+
+        public CompletionIndex build() {
+            final Map<String, Dictionary> dictionaries = new HashMap<>();
+            valuesByField.forEach((field, values) -> dictionaries.put(field, new Dictionary(values)));
+            return new CompletionIndex(dictionaries);
+        }
+    }
+}
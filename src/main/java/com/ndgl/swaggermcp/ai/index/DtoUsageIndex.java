@@ -0,0 +1,116 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * DTO 이름 → 사용 엔드포인트 역참조 인덱스 (빌드 후 불변)
+ *
+ * 동기화 중 $ref 해석 과정에서 수집한 (DTO → 최소 참조 깊이)를 body 단위로 모은다.
+ * 깊이 0은 body 자체가 그 DTO, 1은 body의 직접 필드, 2 이상은 다른 DTO를 거친 간접 참조다.
+ */
+public final class DtoUsageIndex {
+
+    private final Map<String, List<Hit>> hitsByDto;
+    private final List<String> sortedKeys;
+
+    private DtoUsageIndex(final Map<String, List<Hit>> hitsByDto) {
+        this.hitsByDto = hitsByDto;
+        this.sortedKeys = hitsByDto.keySet().stream().sorted().toList();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int dtoCount() {
+        return hitsByDto.size();
+    }
+
+    /**
+     * DTO 사용 위치 조회
+     * 이름이 정확히 일치하는 DTO가 없으면 이름에 검색어가 포함된 DTO를 모두 반환한다.
+     *
+     * @param dtoName DTO 이름 (대소문자 무시)
+     * @return 깊이 → 문서 순서의 사용 위치
+     */
+    public List<Hit> find(final String dtoName) {
+        if (dtoName == null || dtoName.isBlank()) {
+            return List.of();
+        }
+
+        final String key = dtoName.trim().toLowerCase(Locale.ROOT);
+        final List<Hit> exact = hitsByDto.get(key);
+        if (exact != null) {
+            return exact;
+        }
+
+        final List<Hit> partial = new ArrayList<>();
+        for (final String candidate : sortedKeys) {
+            if (candidate.contains(key)) {
+                partial.addAll(hitsByDto.get(candidate));
+            }
+        }
+        return partial;
+    }
+
+    /**
+     * DTO 사용 위치
+     *
+     * @param document 문서 번호
+     * @param dtoName DTO 이름
+     * @param direction request / response / error
+     * @param statusCode response / error 상태 코드 (request는 null)
+     * @param depth 최소 참조 깊이
+     */
+    public record Hit(int document, String dtoName, String direction, Integer statusCode, int depth) {
+    }
+
+    /**
+     * DtoUsageIndex 빌더
+     */
+    public static final class Builder {
+
+        private final Map<String, List<Hit>> hitsByDto = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * body 하나의 참조 DTO 추가
+         *
+         * @param referencedDtos DTO 이름 → 최소 참조 깊이
+         */
+        public Builder add(final int document, final String direction, final Integer statusCode,
+                           final Map<String, Integer> referencedDtos) {
+            if (referencedDtos == null) {
+                return this;
+            }
+
+            referencedDtos.forEach((dtoName, depth) -> {
+                if (dtoName != null && !dtoName.isBlank()) {
+                    hitsByDto.computeIfAbsent(dtoName.toLowerCase(Locale.ROOT), key -> new ArrayList<>())
+                            .add(new Hit(document, dtoName, direction, statusCode, depth == null ? 0 : depth));
+                }
+            });
+            return this;
+        }
+
+        public DtoUsageIndex build() {
+            final Comparator<Hit> order = Comparator.comparingInt(Hit::depth)
+                    .thenComparingInt(Hit::document)
+                    .thenComparing(Hit::direction);
+
+            final Map<String, List<Hit>> frozen = new HashMap<>(hitsByDto.size() * 2);
+            hitsByDto.forEach((key, hits) -> {
+                hits.sort(order);
+                frozen.put(key, List.copyOf(hits));
+            });
+            return new DtoUsageIndex(frozen);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 에러 코드 카탈로그 (빌드 후 불변)
+ *
+ * 같은 (code, statusCode, message) 에러가 여러 엔드포인트에 반복되면 항목 하나로 합치고 문서 번호만 모은다.
+ * 전체 코드는 HashMap으로, 앞부분만 아는 코드(USR-AUTH)는 정렬된 TreeMap 범위 조회로 찾는다.
+ */
+public final class ErrorCatalog {
+
+    private final Map<String, List<Entry>> byCode;
+    private final NavigableMap<String, List<Entry>> sortedByCode;
+
+    private ErrorCatalog(final Map<String, List<Entry>> byCode) {
+        this.byCode = byCode;
+        this.sortedByCode = new TreeMap<>(byCode);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int codeCount() {
+        return byCode.size();
+    }
+
+    /**
+     * 에러 코드 조회
+     * 완전 일치 → 앞부분 일치 → 중간 일치 순으로 찾고, 먼저 결과가 나온 단계에서 멈춘다.
+     *
+     * @param code 전체 또는 부분 에러 코드 (대소문자 무시)
+     * @return 코드 순서의 카탈로그 항목
+     */
+    public List<Entry> find(final String code) {
+        if (code == null || code.isBlank()) {
+            return List.of();
+        }
+
+        final String key = normalize(code);
+        final List<Entry> exact = byCode.get(key);
+        if (exact != null) {
+            return exact;
+        }
+
+        final List<Entry> prefixMatches = flatten(sortedByCode.subMap(key, true, key + Character.MAX_VALUE, false).values());
+        if (!prefixMatches.isEmpty()) {
+            return prefixMatches;
+        }
+
+        final List<Entry> partialMatches = new ArrayList<>();
+        sortedByCode.forEach((candidate, entries) -> {
+            if (candidate.contains(key)) {
+                partialMatches.addAll(entries);
+            }
+        });
+        return partialMatches;
+    }
+
+    private static List<Entry> flatten(final Collection<List<Entry>> groups) {
+        final List<Entry> entries = new ArrayList<>();
+        groups.forEach(entries::addAll);
+        return entries;
+    }
+
+    private static String normalize(final String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 카탈로그 항목 (중복 제거된 에러 1종)
+     *
+     * @param documents 이 에러를 내는 문서 번호 (추가 순서, 중복 없음)
+     */
+    public record Entry(String code, Integer statusCode, String message, String domainCode, String categoryCode,
+                        String detailCode, String description, List<Integer> documents) {
+    }
+
+    /**
+     * ErrorCatalog 빌더
+     */
+    public static final class Builder {
+
+        private final Map<String, Map<Variant, List<Integer>>> variantsByCode = new HashMap<>();
+        private final Map<Variant, Entry> firstSeen = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 에러 추가 (코드가 비어 있으면 무시)
+         */
+        public Builder add(final int document, final String code, final Integer statusCode, final String message,
+                           final String domainCode, final String categoryCode, final String detailCode,
+                           final String description) {
+            if (code == null || code.isBlank()) {
+                return this;
+            }
+
+            final String key = normalize(code);
+            final Variant variant = new Variant(key, statusCode, message);
+            final List<Integer> documents = variantsByCode
+                    .computeIfAbsent(key, ignored -> new LinkedHashMap<>())
+                    .computeIfAbsent(variant, ignored -> new ArrayList<>());
+            if (!documents.contains(document)) {
+                documents.add(document);
+            }
+            firstSeen.putIfAbsent(variant, new Entry(code, statusCode, message, domainCode, categoryCode,
+                    detailCode, description, List.of()));
+            return this;
+        }
+
+        public ErrorCatalog build() {
+            final Map<String, List<Entry>> byCode = new HashMap<>(variantsByCode.size() * 2);
+            variantsByCode.forEach((key, variants) -> {
+                final List<Entry> entries = new ArrayList<>(variants.size());
+                variants.forEach((variant, documents) -> {
+                    final Entry first = firstSeen.get(variant);
+                    entries.add(new Entry(first.code(), first.statusCode(), first.message(), first.domainCode(),
+                            first.categoryCode(), first.detailCode(), first.description(), List.copyOf(documents)));
+                });
+                byCode.put(key, List.copyOf(entries));
+            });
+            return new ErrorCatalog(byCode);
+        }
+    }
+
+    /**
+     * 중복 판단 기준
+     */
+    private record Variant(String code, Integer statusCode, String message) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 필드 이름 → 사용 위치 역색인 (빌드 후 불변)
+ *
+ * Request/Response body의 모든 깊이 필드와 파라미터를 필드 이름(대소문자 무시)으로 모아 둔다.
+ * 경로는 점 표기이며 배열 원소는 "[]"로 표시한다. (예: data.travels[].travelId)
+ */
+public final class FieldIndex {
+
+    private static final int MAX_DEPTH = 32;
+
+    private final Map<String, List<Hit>> hitsByName;
+
+    private FieldIndex(final Map<String, List<Hit>> hitsByName) {
+        this.hitsByName = hitsByName;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int fieldNameCount() {
+        return hitsByName.size();
+    }
+
+    /**
+     * 필드 이름 또는 경로로 사용 위치 조회
+     *
+     * @param field 필드 이름(travelId) 또는 경로 끝부분(travels[].travelId)
+     * @param direction request / response / parameter (null이면 전체)
+     * @return 문서 순서의 사용 위치
+     */
+    public List<Hit> find(final String field, final String direction) {
+        if (field == null || field.isBlank()) {
+            return List.of();
+        }
+
+        final String query = field.trim().toLowerCase(Locale.ROOT);
+        final String name = lastSegment(query);
+        final boolean pathQuery = !name.equals(query);
+
+        final List<Hit> hits = hitsByName.getOrDefault(name, List.of());
+        return hits.stream()
+                .filter(hit -> direction == null || direction.isBlank() || hit.direction().equalsIgnoreCase(direction))
+                .filter(hit -> !pathQuery || endsWithPath(hit.path().toLowerCase(Locale.ROOT), query))
+                .toList();
+    }
+
+    private static boolean endsWithPath(final String path, final String query) {
+        return path.equals(query) || path.endsWith("." + query);
+    }
+
+    private static String lastSegment(final String query) {
+        final String name = query.substring(query.lastIndexOf('.') + 1);
+        return name.endsWith("[]") ? name.substring(0, name.length() - 2) : name;
+    }
+
+    /**
+     * 필드 사용 위치
+     *
+     * @param document 문서 번호
+     * @param direction request / response / parameter
+     * @param statusCode response 상태 코드 (그 외 null)
+     * @param location body / path / query / header / cookie
+     * @param path 필드 경로
+     * @param type schema type
+     * @param required 필수 여부
+     */
+    public record Hit(int document, String direction, Integer statusCode, String location, String path,
+                      String type, Boolean required) {
+    }
+
+    /**
+     * FieldIndex 빌더
+     */
+    public static final class Builder {
+
+        private final Map<String, List<Hit>> hitsByName = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 파라미터 추가
+         */
+        public Builder addParameter(final int document, final String in, final String name, final String type,
+                                    final Boolean required) {
+            add(name, new Hit(document, "parameter", null, in, name, type, required));
+            return this;
+        }
+
+        /**
+         * body schema의 모든 필드 추가 (transformSchema를 거친 schema 기준)
+         */
+        public Builder addSchema(final int document, final String direction, final Integer statusCode,
+                                 final Map<String, Object> schema) {
+            walk(document, direction, statusCode, schema, "", 0);
+            return this;
+        }
+
+        public FieldIndex build() {
+            final Comparator<Hit> order = Comparator.comparingInt(Hit::document)
+                    .thenComparing(Hit::direction)
+                    .thenComparing(Hit::path);
+
+            final Map<String, List<Hit>> frozen = new HashMap<>(hitsByName.size() * 2);
+            hitsByName.forEach((name, hits) -> {
+                hits.sort(order);
+                frozen.put(name, List.copyOf(hits));
+            });
+            return new FieldIndex(frozen);
+        }
+
+        private void walk(final int document, final String direction, final Integer statusCode,
+                          final Map<String, Object> schema, final String prefix, final int depth) {
+            if (schema == null || depth > MAX_DEPTH || Boolean.TRUE.equals(schema.get("_circular"))) {
+                return;
+            }
+
+            if (schema.get("properties") instanceof Map<?, ?> properties) {
+                for (final Map.Entry<?, ?> entry : properties.entrySet()) {
+                    final String name = String.valueOf(entry.getKey());
+                    final String path = prefix.isEmpty() ? name : prefix + "." + name;
+                    final Map<String, Object> fieldSchema = asMap(entry.getValue());
+
+                    add(name, new Hit(document, direction, statusCode, "body", path,
+                            stringValue(fieldSchema, "type"),
+                            Boolean.TRUE.equals(fieldSchema.get("required"))));
+                    walk(document, direction, statusCode, fieldSchema, path, depth + 1);
+                }
+            }
+
+            if (schema.get("items") instanceof Map<?, ?> items) {
+                walk(document, direction, statusCode, asMap(items), prefix + "[]", depth + 1);
+            }
+
+            if (schema.get("allOf") instanceof Collection<?> allOf) {
+                for (final Object element : allOf) {
+                    walk(document, direction, statusCode, asMap(element), prefix, depth + 1);
+                }
+            }
+        }
+
+        private void add(final String name, final Hit hit) {
+            if (name == null || name.isBlank()) {
+                return;
+            }
+            hitsByName.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(hit);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, Object> asMap(final Object value) {
+            return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+        }
+
+        private static String stringValue(final Map<String, Object> map, final String key) {
+            final Object value = map.get(key);
+            return value != null ? value.toString() : null;
+        }
+    }
+}
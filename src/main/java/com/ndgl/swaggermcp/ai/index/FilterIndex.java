@@ -0,0 +1,264 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 속성별 bitmap 필터 인덱스 (빌드 후 불변)
+ *
+ * method / tag / 상태 코드 / 파라미터 / request body 유무마다 문서 번호 BitSet을 두고, 조건은 BitSet 교집합으로 평가한다.
+ * path prefix는 path 정렬 배열에서 이진 탐색으로 연속 구간을 찾아 BitSet으로 만든다.
+ * 같은 속성 안의 여러 값(method in (POST, PUT))은 합집합, 속성끼리는 교집합이다.
+ */
+public final class FilterIndex {
+
+    private final int documentCount;
+    private final Map<String, BitSet> byMethod;
+    private final Map<String, BitSet> byTag;
+    private final Map<Integer, BitSet> byStatusCode;
+    private final Map<String, BitSet> byParameter;
+    private final BitSet withRequestBody;
+    private final String[] sortedPaths;
+    private final int[] sortedDocuments;
+
+    private FilterIndex(final Builder builder) {
+        this.documentCount = builder.documentCount;
+        this.byMethod = Map.copyOf(builder.byMethod);
+        this.byTag = Map.copyOf(builder.byTag);
+        this.byStatusCode = Map.copyOf(builder.byStatusCode);
+        this.byParameter = Map.copyOf(builder.byParameter);
+        this.withRequestBody = (BitSet) builder.withRequestBody.clone();
+
+        final Integer[] order = new Integer[builder.paths.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(builder.paths::get));
+        this.sortedPaths = new String[order.length];
+        this.sortedDocuments = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedPaths[i] = builder.paths.get(order[i]);
+            sortedDocuments[i] = order[i];
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 전체 문서 BitSet
+     */
+    public BitSet all() {
+        final BitSet all = new BitSet(documentCount);
+        all.set(0, documentCount);
+        return all;
+    }
+
+    /**
+     * method 중 하나와 일치 (비어 있으면 조건 없음)
+     */
+    public void retainMethods(final BitSet candidates, final Collection<String> methods) {
+        retainAny(candidates, byMethod, normalizeAll(methods, true));
+    }
+
+    /**
+     * tag 중 하나와 일치 (대소문자 무시, 비어 있으면 조건 없음)
+     */
+    public void retainTags(final BitSet candidates, final Collection<String> tags) {
+        retainAny(candidates, byTag, normalizeAll(tags, false));
+    }
+
+    /**
+     * 해당 상태 코드(성공/에러)를 응답할 수 있는 문서
+     */
+    public void retainStatusCode(final BitSet candidates, final Integer statusCode) {
+        if (statusCode != null) {
+            candidates.and(byStatusCode.getOrDefault(statusCode, new BitSet()));
+        }
+    }
+
+    /**
+     * request body 유무
+     */
+    public void retainRequestBody(final BitSet candidates, final Boolean hasRequestBody) {
+        if (Boolean.TRUE.equals(hasRequestBody)) {
+            candidates.and(withRequestBody);
+        } else if (Boolean.FALSE.equals(hasRequestBody)) {
+            candidates.andNot(withRequestBody);
+        }
+    }
+
+    /**
+     * 파라미터 조건 (이름만, 위치만, 또는 둘 다)
+     */
+    public void retainParameter(final BitSet candidates, final String in, final String name) {
+        final String key = parameterKey(in, name);
+        if (key != null) {
+            candidates.and(byParameter.getOrDefault(key, new BitSet()));
+        }
+    }
+
+    /**
+     * path prefix 조건
+     * segment 단위로 비교하므로 /api/v1/user는 /api/v1/user, /api/v1/user/{id}에 맞고 /api/v1/users에는 맞지 않는다.
+     * 끝의 '/'는 무시한다. ("/"만 주면 조건 없음)
+     */
+    public void retainPathPrefix(final BitSet candidates, final String pathPrefix) {
+        if (pathPrefix == null || pathPrefix.isBlank()) {
+            return;
+        }
+
+        String prefix = pathPrefix.trim();
+        while (prefix.endsWith("/")) {
+            prefix = prefix.substring(0, prefix.length() - 1);
+        }
+        if (prefix.isEmpty()) {
+            return;
+        }
+
+        final BitSet matched = new BitSet(documentCount);
+        int index = lowerBound(prefix);
+        while (index < sortedPaths.length && sortedPaths[index].startsWith(prefix)) {
+            final String path = sortedPaths[index];
+            if (path.length() == prefix.length() || path.charAt(prefix.length()) == '/') {
+                matched.set(sortedDocuments[index]);
+            }
+            index++;
+        }
+        candidates.and(matched);
+    }
+
+    private int lowerBound(final String key) {
+        int low = 0;
+        int high = sortedPaths.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedPaths[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void retainAny(final BitSet candidates, final Map<String, BitSet> bitmaps, final List<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        final BitSet union = new BitSet();
+        for (final String value : values) {
+            final BitSet bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        candidates.and(union);
+    }
+
+    private static List<String> normalizeAll(final Collection<String> values, final boolean upperCase) {
+        if (values == null) {
+            return List.of();
+        }
+
+        final List<String> normalized = new ArrayList<>(values.size());
+        for (final String value : values) {
+            if (value != null && !value.isBlank()) {
+                normalized.add(upperCase ? value.trim().toUpperCase(Locale.ROOT) : value.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * 파라미터 bitmap 키 (in:name, in:*, *:name)
+     */
+    private static String parameterKey(final String in, final String name) {
+        final boolean hasIn = in != null && !in.isBlank();
+        final boolean hasName = name != null && !name.isBlank();
+        if (!hasIn && !hasName) {
+            return null;
+        }
+        return (hasIn ? in.trim().toLowerCase(Locale.ROOT) : "*") + ":"
+                + (hasName ? name.trim().toLowerCase(Locale.ROOT) : "*");
+    }
+
+    /**
+     * FilterIndex 빌더 (문서는 0부터 순서대로 추가)
+     */
+    public static final class Builder {
+
+        private final Map<String, BitSet> byMethod = new HashMap<>();
+        private final Map<String, BitSet> byTag = new HashMap<>();
+        private final Map<Integer, BitSet> byStatusCode = new HashMap<>();
+        private final Map<String, BitSet> byParameter = new HashMap<>();
+        private final BitSet withRequestBody = new BitSet();
+        private final List<String> paths = new ArrayList<>();
+        private int documentCount;
+
+        private Builder() {
+        }
+
+        /**
+         * 문서 추가
+         *
+         * @return 추가된 문서 번호
+         */
+        public int add(final String method, final String path, final List<String> tags,
+                       final Collection<Integer> statusCodes) {
+            final int document = documentCount++;
+            paths.add(path == null ? "" : path);
+
+            if (method != null) {
+                set(byMethod, method.toUpperCase(Locale.ROOT), document);
+            }
+            if (tags != null) {
+                tags.stream()
+                        .filter(tag -> tag != null && !tag.isBlank())
+                        .forEach(tag -> set(byTag, tag.toLowerCase(Locale.ROOT), document));
+            }
+            if (statusCodes != null) {
+                statusCodes.forEach(statusCode -> set(byStatusCode, statusCode, document));
+            }
+            return document;
+        }
+
+        public Builder addRequestBody(final int document) {
+            withRequestBody.set(document);
+            return this;
+        }
+
+        public Builder addStatusCode(final int document, final Integer statusCode) {
+            if (statusCode != null) {
+                set(byStatusCode, statusCode, document);
+            }
+            return this;
+        }
+
+        public Builder addParameter(final int document, final String in, final String name) {
+            set(byParameter, parameterKey(in, name), document);
+            set(byParameter, parameterKey(in, null), document);
+            set(byParameter, parameterKey(null, name), document);
+            return this;
+        }
+
+        public FilterIndex build() {
+            return new FilterIndex(this);
+        }
+
+        private static <K> void set(final Map<K, BitSet> bitmaps, final K key, final int document) {
+            if (key != null) {
+                bitmaps.computeIfAbsent(key, ignored -> new BitSet()).set(document);
+            }
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오타 허용 검색용 문자 bigram 인덱스 (불변)
+ *
+ * 문서(엔드포인트) 텍스트를 SearchTokenizer로 나눈 단어 사전을 만들고, 단어의 bigram → 단어, 단어 → 문서 posting을 둔다.
+ * 검색어 토큰마다 bigram 공유 개수로 후보 단어를 먼저 거른 뒤(count filter) 부분 일치 또는 OSA 편집 거리로 확인하므로,
+ * 비교 대상은 엔드포인트 수가 아니라 bigram을 공유하는 단어 수에 비례한다.
+ * 여러 토큰으로 된 검색어는 모든 토큰이 일치한 문서만 반환한다.
+ */
+public final class NgramIndex {
+
+    private static final char PAD_START = '\u0002';
+    private static final char PAD_END = '\u0003';
+
+    /**
+     * 편집 1회가 깨뜨릴 수 있는 bigram 수 (인접 문자 교환 기준)
+     */
+    private static final int GRAMS_PER_EDIT = 3;
+
+    private static final char HANGUL_SYLLABLE_START = '\uAC00';
+    private static final char HANGUL_SYLLABLE_END = '\uD7A3';
+
+    private static final float EXACT_SCORE = 1.0f;
+    private static final float FUZZY_SCORE = 0.8f;
+    private static final float CONTAINS_SCORE = 0.6f;
+
+    private final String[] terms;
+    private final Map<String, Integer> termIds;
+    private final int[][] termDocuments;
+    private final Map<String, int[]> gramTerms;
+    private final int documentCount;
+
+    private NgramIndex(final String[] terms, final Map<String, Integer> termIds, final int[][] termDocuments,
+                       final Map<String, int[]> gramTerms, final int documentCount) {
+        this.terms = terms;
+        this.termIds = termIds;
+        this.termDocuments = termDocuments;
+        this.gramTerms = gramTerms;
+        this.documentCount = documentCount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * 검색어와 일치하는 문서를 점수 내림차순으로 반환
+     *
+     * @param query 검색어
+     * @return 일치 문서 (동점이면 문서 순서)
+     */
+    public List<Match> search(final String query) {
+        final List<String> tokens = SearchTokenizer.tokenize(query);
+        if (tokens.isEmpty() || documentCount == 0) {
+            return List.of();
+        }
+
+        final float[] totalScores = new float[documentCount];
+        final int[] matchedTokens = new int[documentCount];
+        final float[] tokenScores = new float[documentCount];
+        final int[] termCounts = new int[terms.length];
+
+        for (final String token : tokens) {
+            Arrays.fill(tokenScores, 0f);
+            final Map<Integer, Float> matchedTerms = matchTerms(token, termCounts);
+
+            matchedTerms.forEach((termId, score) -> {
+                for (final int document : termDocuments[termId]) {
+                    tokenScores[document] = Math.max(tokenScores[document], score);
+                }
+            });
+
+            for (int document = 0; document < documentCount; document++) {
+                if (tokenScores[document] > 0f) {
+                    totalScores[document] += tokenScores[document];
+                    matchedTokens[document]++;
+                }
+            }
+        }
+
+        final List<Match> matches = new ArrayList<>();
+        for (int document = 0; document < documentCount; document++) {
+            if (matchedTokens[document] == tokens.size()) {
+                matches.add(new Match(document, totalScores[document] / tokens.size()));
+            }
+        }
+        matches.sort(Comparator.comparing(Match::score).reversed().thenComparing(Match::document));
+        return matches;
+    }
+
+    /**
+     * 토큰과 일치하는 단어 → 점수
+     */
+    private Map<Integer, Float> matchTerms(final String token, final int[] termCounts) {
+        final Map<Integer, Float> matched = new HashMap<>();
+        final Integer exact = termIds.get(token);
+        if (exact != null) {
+            matched.put(exact, EXACT_SCORE);
+        }
+
+        // 한 글자 토큰은 bigram으로 거를 수 없어 단어 사전을 직접 훑는다 (숫자/영문 한 글자는 완전 일치만)
+        if (token.length() == 1) {
+            if (!SearchTokenizer.isHangul(token)) {
+                return matched;
+            }
+            for (int termId = 0; termId < terms.length; termId++) {
+                if (termId != (exact == null ? -1 : exact) && terms[termId].indexOf(token.charAt(0)) >= 0) {
+                    matched.put(termId, containsScore(token, terms[termId]));
+                }
+            }
+            return matched;
+        }
+
+        final Set<String> grams = grams(token);
+        final List<Integer> touched = new ArrayList<>();
+        for (final String gram : grams) {
+            final int[] candidates = gramTerms.get(gram);
+            if (candidates == null) {
+                continue;
+            }
+            for (final int termId : candidates) {
+                if (termCounts[termId]++ == 0) {
+                    touched.add(termId);
+                }
+            }
+        }
+
+        final boolean hangul = SearchTokenizer.isHangul(token);
+        final String tokenJamo = hangul ? decomposeHangul(token) : null;
+        final int maxEdits = maxEdits(token);
+        final int fuzzyThreshold = Math.max(1, grams.size() - GRAMS_PER_EDIT * maxEdits);
+        // 부분 일치라면 양 끝 padding을 뺀 bigram은 모두 공유해야 한다
+        final int containsThreshold = Math.max(1, grams.size() - 2);
+
+        for (final int termId : touched) {
+            final int common = termCounts[termId];
+            termCounts[termId] = 0;
+            if (matched.containsKey(termId)) {
+                continue;
+            }
+
+            final String term = terms[termId];
+            if (common >= containsThreshold && term.length() > token.length() && term.contains(token)) {
+                matched.put(termId, containsScore(token, term));
+                continue;
+            }
+
+            if (maxEdits > 0 && common >= fuzzyThreshold) {
+                final int edits = hangul
+                        ? jamoEdits(tokenJamo, term, maxEdits)
+                        : osaDistance(token, term, maxEdits);
+                if (edits <= maxEdits) {
+                    matched.put(termId, FUZZY_SCORE - 0.1f * (edits - 1));
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 토큰 길이별 허용 편집 횟수
+     * 한글은 음절 하나가 정보량이 많아 더 짧은 길이부터 허용하고, 숫자가 섞인 토큰(v1, 404 등)은 식별자로 보고 허용하지 않는다.
+     */
+    private static int maxEdits(final String token) {
+        final int length = token.length();
+        if (token.chars().anyMatch(Character::isDigit)) {
+            return 0;
+        }
+        if (SearchTokenizer.isHangul(token)) {
+            return length <= 1 ? 0 : length <= 4 ? 1 : 2;
+        }
+        return length <= 2 ? 0 : length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * 한글 편집 횟수 (음절 단위)
+     * 한글 오타는 자모 단위로 생기므로(회언/회원, 로긴/로그인) 자모로 분해해 거리를 구한 뒤 음절 단위로 환산한다.
+     */
+    private static int jamoEdits(final String tokenJamo, final String term, final int maxEdits) {
+        final int distance = osaDistance(tokenJamo, decomposeHangul(term), maxEdits * 2);
+        return (distance + 1) / 2;
+    }
+
+    /**
+     * 한글 음절을 초성/중성/종성 자모로 분해 (한글 음절이 아닌 문자는 그대로)
+     */
+    static String decomposeHangul(final String text) {
+        final StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < HANGUL_SYLLABLE_START || c > HANGUL_SYLLABLE_END) {
+                builder.append(c);
+                continue;
+            }
+
+            final int offset = c - HANGUL_SYLLABLE_START;
+            builder.append((char) (0x1100 + offset / 588));
+            builder.append((char) (0x1161 + offset % 588 / 28));
+            if (offset % 28 != 0) {
+                builder.append((char) (0x11A7 + offset % 28));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static float containsScore(final String token, final String term) {
+        return CONTAINS_SCORE + 0.3f * token.length() / term.length();
+    }
+
+    private static Set<String> grams(final String term) {
+        final String padded = PAD_START + term + PAD_END;
+        final Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * Optimal String Alignment 거리 (인접 문자 교환을 편집 1회로 계산)
+     * 중간 행의 최솟값이 maxDistance를 넘으면 바로 중단하고 maxDistance + 1을 반환한다.
+     */
+    static int osaDistance(final String a, final String b, final int maxDistance) {
+        final int n = a.length();
+        final int m = b.length();
+        if (Math.abs(n - m) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int[] beforePrevious = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= m; j++) {
+                final int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            final int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[m];
+    }
+
+    /**
+     * 검색 결과 (document는 Builder에 추가한 순서)
+     */
+    public record Match(int document, float score) {
+    }
+
+    /**
+     * NgramIndex 빌더 (문서는 0부터 순서대로 추가)
+     */
+    public static final class Builder {
+
+        private final Map<String, List<Integer>> termDocuments = new HashMap<>();
+        private int documentCount;
+
+        private Builder() {
+        }
+
+        /**
+         * 문서 추가
+         *
+         * @param texts 문서의 검색 대상 텍스트 (path, summary 등, null 허용)
+         * @return 추가된 문서 번호
+         */
+        public int add(final String... texts) {
+            final int document = documentCount++;
+            for (final String text : texts) {
+                for (final String term : SearchTokenizer.tokenize(text)) {
+                    final List<Integer> documents = termDocuments.computeIfAbsent(term, key -> new ArrayList<>());
+                    if (documents.isEmpty() || documents.get(documents.size() - 1) != document) {
+                        documents.add(document);
+                    }
+                }
+            }
+            return document;
+        }
+
+        public NgramIndex build() {
+            final String[] terms = termDocuments.keySet().stream().sorted().toArray(String[]::new);
+            final Map<String, Integer> termIds = new HashMap<>(terms.length * 2);
+            final int[][] postings = new int[terms.length][];
+            final Map<String, List<Integer>> gramTermLists = new HashMap<>();
+
+            for (int termId = 0; termId < terms.length; termId++) {
+                termIds.put(terms[termId], termId);
+                postings[termId] = termDocuments.get(terms[termId]).stream().mapToInt(Integer::intValue).toArray();
+                for (final String gram : grams(terms[termId])) {
+                    gramTermLists.computeIfAbsent(gram, key -> new ArrayList<>()).add(termId);
+                }
+            }
+
+            final Map<String, int[]> gramTerms = new HashMap<>(gramTermLists.size() * 2);
+            gramTermLists.forEach((gram, termIdList) ->
+                    gramTerms.put(gram, termIdList.stream().mapToInt(Integer::intValue).toArray()));
+
+            return new NgramIndex(terms, termIds, postings, gramTerms, documentCount);
+        }
+    }
+}
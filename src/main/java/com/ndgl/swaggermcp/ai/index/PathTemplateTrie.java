@@ -0,0 +1,274 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실제 URL → path template 매칭용 segment trie (빌드 후 불변)
+ *
+ * 노드 하나가 path segment 하나에 대응하고, 자식은 세 종류로 나뉜다.
+ * - literal: "users" (HashMap 조회)
+ * - pattern: "{fileName}.json" 처럼 segment 안에 변수가 섞인 경우 (정규식)
+ * - variable: "{userId}" (노드당 하나, 변수 이름은 말단에서 template별로 보관)
+ * 매칭은 literal → pattern → variable 순으로 시도하고 막히면 되돌아가므로,
+ * /users/me 와 /users/{userId} 가 함께 있어도 /users/me 는 항상 literal 쪽에 걸린다.
+ * 말단은 method별로 source id마다 하나씩 보관하므로, 여러 스펙에 같은 method + template이 있으면 모두 매칭된다.
+ */
+public final class PathTemplateTrie {
+
+    private static final Pattern VARIABLE_SEGMENT = Pattern.compile("^\\{([^}/]+)}$");
+    private static final Pattern VARIABLE_IN_SEGMENT = Pattern.compile("\\{([^}/]+)}");
+
+    private final Node root;
+
+    private PathTemplateTrie(final Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * method + 실제 URL과 일치하는 template 조회
+     *
+     * @param method HTTP method
+     * @param url 실제 URL (scheme/host, query string 포함 가능)
+     * @return 일치한 template의 source별 문서 번호와 path 변수 값 (추가한 순서, 없으면 빈 리스트)
+     */
+    public List<Resolution> resolve(final String method, final String url) {
+        if (method == null || url == null) {
+            return List.of();
+        }
+
+        final List<String> segments = splitUrl(url);
+        final List<String> values = new ArrayList<>();
+        final List<Terminal> terminals = match(root, segments, 0, method.toUpperCase(Locale.ROOT), values);
+        if (terminals == null) {
+            return List.of();
+        }
+
+        final List<Resolution> resolutions = new ArrayList<>(terminals.size());
+        for (final Terminal terminal : terminals) {
+            final Map<String, String> pathVariables = new LinkedHashMap<>();
+            for (int i = 0; i < terminal.variableNames().size(); i++) {
+                pathVariables.put(terminal.variableNames().get(i), values.get(i));
+            }
+            resolutions.add(new Resolution(terminal.document(), terminal.sourceId(), pathVariables));
+        }
+        return resolutions;
+    }
+
+    private List<Terminal> match(final Node node, final List<String> segments, final int index, final String method,
+                                 final List<String> values) {
+        if (index == segments.size()) {
+            return node.terminals.get(method);
+        }
+
+        final String segment = segments.get(index);
+
+        final Node literal = node.literals.get(segment);
+        if (literal != null) {
+            final List<Terminal> terminals = match(literal, segments, index + 1, method, values);
+            if (terminals != null) {
+                return terminals;
+            }
+        }
+
+        for (final PatternChild pattern : node.patterns) {
+            final Matcher matcher = pattern.pattern().matcher(segment);
+            if (!matcher.matches()) {
+                continue;
+            }
+
+            final int mark = values.size();
+            for (int group = 1; group <= matcher.groupCount(); group++) {
+                values.add(matcher.group(group));
+            }
+            final List<Terminal> terminals = match(pattern.node(), segments, index + 1, method, values);
+            if (terminals != null) {
+                return terminals;
+            }
+            values.subList(mark, values.size()).clear();
+        }
+
+        if (node.variable != null) {
+            values.add(segment);
+            final List<Terminal> terminals = match(node.variable, segments, index + 1, method, values);
+            if (terminals != null) {
+                return terminals;
+            }
+            values.remove(values.size() - 1);
+        }
+        return null;
+    }
+
+    /**
+     * URL에서 path만 남겨 segment로 분리 (빈 segment 제거, percent-decoding)
+     */
+    private static List<String> splitUrl(final String url) {
+        String path = url.trim();
+
+        final int schemeEnd = path.indexOf("://");
+        if (schemeEnd >= 0) {
+            final int pathStart = path.indexOf('/', schemeEnd + 3);
+            path = pathStart < 0 ? "" : path.substring(pathStart);
+        }
+
+        final int queryStart = indexOfAny(path, '?', '#');
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+
+        final List<String> segments = new ArrayList<>();
+        for (final String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(decode(segment));
+            }
+        }
+        return segments;
+    }
+
+    private static List<String> splitTemplate(final String template) {
+        final List<String> segments = new ArrayList<>();
+        for (final String segment : template.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static String decode(final String segment) {
+        if (segment.indexOf('%') < 0) {
+            return segment;
+        }
+        try {
+            // path의 '+'는 공백이 아니므로 디코딩 전에 보존
+            return URLDecoder.decode(segment.replace("+", "%2B"), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return segment;
+        }
+    }
+
+    private static int indexOfAny(final String value, final char first, final char second) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == first || c == second) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 매칭 결과
+     *
+     * @param document Builder에 추가한 문서 번호
+     * @param sourceId 문서의 source id
+     * @param pathVariables template 변수 이름 → 실제 값
+     */
+    public record Resolution(int document, String sourceId, Map<String, String> pathVariables) {
+    }
+
+    private record Terminal(int document, String sourceId, List<String> variableNames) {
+    }
+
+    private record PatternChild(String template, Pattern pattern, Node node) {
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<PatternChild> patterns = new ArrayList<>();
+        private final Map<String, List<Terminal>> terminals = new HashMap<>();
+        private Node variable;
+    }
+
+    /**
+     * PathTemplateTrie 빌더
+     */
+    public static final class Builder {
+
+        private final Node root = new Node();
+
+        private Builder() {
+        }
+
+        /**
+         * template 추가 (같은 source + method + template이 이미 있으면 먼저 추가된 것을 유지)
+         *
+         * @param document 문서 번호
+         * @param sourceId 문서의 source id
+         * @param method HTTP method
+         * @param template path template (예: /users/{userId}/travels)
+         */
+        public Builder add(final int document, final String sourceId, final String method, final String template) {
+            Node node = root;
+            final List<String> variableNames = new ArrayList<>();
+
+            for (final String segment : splitTemplate(template)) {
+                final Matcher variable = VARIABLE_SEGMENT.matcher(segment);
+                if (variable.matches()) {
+                    variableNames.add(variable.group(1));
+                    if (node.variable == null) {
+                        node.variable = new Node();
+                    }
+                    node = node.variable;
+                } else if (segment.indexOf('{') >= 0) {
+                    node = patternChild(node, segment, variableNames);
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+
+            final List<Terminal> terminals = node.terminals.computeIfAbsent(method.toUpperCase(Locale.ROOT),
+                    key -> new ArrayList<>(1));
+            if (terminals.stream().noneMatch(terminal -> terminal.sourceId().equals(sourceId))) {
+                terminals.add(new Terminal(document, sourceId, Collections.unmodifiableList(variableNames)));
+            }
+            return this;
+        }
+
+        public PathTemplateTrie build() {
+            return new PathTemplateTrie(root);
+        }
+
+        private Node patternChild(final Node node, final String segment, final List<String> variableNames) {
+            final StringBuilder regex = new StringBuilder();
+            final Matcher matcher = VARIABLE_IN_SEGMENT.matcher(segment);
+            int literalEnd = 0;
+            while (matcher.find()) {
+                regex.append(Pattern.quote(segment.substring(literalEnd, matcher.start())));
+                regex.append("(.+?)");
+                variableNames.add(matcher.group(1));
+                literalEnd = matcher.end();
+            }
+            regex.append(Pattern.quote(segment.substring(literalEnd)));
+
+            // 같은 변수 배치의 segment는 변수 이름이 달라도 한 노드로 합친다
+            final String shape = VARIABLE_IN_SEGMENT.matcher(segment).replaceAll("{}");
+            for (final PatternChild existing : node.patterns) {
+                if (existing.template().equals(shape)) {
+                    return existing.node();
+                }
+            }
+
+            final PatternChild child = new PatternChild(shape, Pattern.compile(regex.toString()), new Node());
+            node.patterns.add(child);
+            // literal 부분이 긴 pattern이 더 구체적이므로 먼저 시도
+            node.patterns.sort(Comparator.comparingInt((PatternChild p) -> p.template().length()).reversed());
+            return child.node();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토큰 분리기
+ *
+ * 영문/숫자는 구분자와 camelCase 경계에서 나누고, 한글은 영문/숫자와 붙어 있어도 별도 토큰으로 분리한다.
+ * (예: "getUserById 사용자조회API" → get, user, by, id, 사용자조회, api)
+ * 한글 조사/어미는 떼지 않는다. "로그인을"처럼 붙은 형태는 NgramIndex의 부분 일치로 찾는다.
+ */
+public final class SearchTokenizer {
+
+    private static final int SEPARATOR = 0;
+    private static final int ALNUM = 1;
+    private static final int HANGUL = 2;
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(final String text) {
+        final List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int start = -1;
+        int startType = SEPARATOR;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            final int type = typeOf(c);
+
+            final boolean boundary = type != startType || (type == ALNUM && isCamelBoundary(text, i));
+            if (boundary) {
+                addToken(tokens, text, start, i, startType);
+                start = type == SEPARATOR ? -1 : i;
+                startType = type;
+            }
+        }
+        addToken(tokens, text, start, text.length(), startType);
+        return tokens;
+    }
+
+    public static boolean isHangul(final String token) {
+        return !token.isEmpty() && typeOf(token.charAt(0)) == HANGUL;
+    }
+
+    private static void addToken(final List<String> tokens, final String text, final int start, final int end,
+                                 final int type) {
+        if (start < 0 || type == SEPARATOR) {
+            return;
+        }
+
+        // 영문 한 글자는 검색에 의미가 없어 버린다 (한글은 한 글자도 단어일 수 있음)
+        if (type == ALNUM && end - start < 2 && !Character.isDigit(text.charAt(start))) {
+            return;
+        }
+        tokens.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * userId → user|Id, HTTPServer → HTTP|Server
+     */
+    private static boolean isCamelBoundary(final String text, final int index) {
+        if (index == 0) {
+            return false;
+        }
+
+        final char previous = text.charAt(index - 1);
+        final char current = text.charAt(index);
+        if (Character.isLowerCase(previous) && Character.isUpperCase(current)) {
+            return true;
+        }
+        return Character.isUpperCase(previous) && Character.isUpperCase(current)
+                && index + 1 < text.length() && Character.isLowerCase(text.charAt(index + 1));
+    }
+
+    private static int typeOf(final char c) {
+        if (Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL) {
+            return HANGUL;
+        }
+        if (Character.isLetterOrDigit(c)) {
+            return ALNUM;
+        }
+        return SEPARATOR;
+    }
+}
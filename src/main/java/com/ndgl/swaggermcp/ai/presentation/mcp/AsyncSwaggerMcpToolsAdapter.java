@@ -0,0 +1,75 @@
+package com.ndgl.swaggermcp.ai.presentation.mcp;
+
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springaicommunity.mcp.provider.tool.SyncMcpToolProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ASYNC MCP 서버용 도구 어댑터
+ * ASYNC 서버의 annotation scanner는 Mono/Flux를 반환하는 @McpTool만 등록하므로 SwaggerMcpTools의 도구는 그대로는 빠진다.
+ * SwaggerMcpTools에서 만든 동기 도구 명세를 그대로 쓰고 호출 방식만 도구별로 정한다.
+ *
+ * - 인메모리 인덱스만 읽는 도구(INDEX_TOOLS, keyword 없는 searchApiWithFilters): 호출한 스레드에서 바로 실행해 Mono로 돌려준다.
+ * - DB(JPA)를 읽는 도구: JDBC가 블로킹이므로 boundedElastic 스케줄러로 넘겨 event loop를 막지 않게 한다.
+ *   비블로킹 저장소(R2DBC 등)는 쓰지 않으므로 이 도구들은 여전히 스레드를 하나씩 점유한다.
+ *
+ * 도구 이름, 인자, 설명, 메트릭, bulkhead는 SYNC 모드와 같다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.ai.mcp.server.type", havingValue = "ASYNC")
+public class AsyncSwaggerMcpToolsAdapter {
+
+    private static final String FILTER_TOOL = "searchApiWithFilters";
+
+    /**
+     * DB를 읽지 않는 도구 (ApiIndexService 스냅샷만 사용)
+     */
+    private static final Set<String> INDEX_TOOLS = Set.of(
+            "completeApiArgument", "resolveApiByUrl", "findApiByField", "lookupErrorCode", "findApiByDto", FILTER_TOOL);
+
+    @Bean
+    public List<McpServerFeatures.AsyncToolSpecification> swaggerAsyncToolSpecifications(final SwaggerMcpTools swaggerMcpTools) {
+        final List<McpServerFeatures.AsyncToolSpecification> specifications =
+                new SyncMcpToolProvider(List.of(swaggerMcpTools)).getToolSpecifications().stream()
+                        .map(AsyncSwaggerMcpToolsAdapter::toAsync)
+                        .toList();
+        log.info("ASYNC MCP 도구 등록: {} 개", specifications.size());
+        return specifications;
+    }
+
+    private static McpServerFeatures.AsyncToolSpecification toAsync(final McpServerFeatures.SyncToolSpecification sync) {
+        return McpServerFeatures.AsyncToolSpecification.builder()
+                .tool(sync.tool())
+                .callHandler((exchange, request) -> {
+                    final Mono<McpSchema.CallToolResult> call = Mono
+                            .fromCallable(() -> sync.callHandler().apply(new McpSyncServerExchange(exchange), request));
+                    return readsDatabase(request) ? call.subscribeOn(Schedulers.boundedElastic()) : call;
+                })
+                .build();
+    }
+
+    /**
+     * searchApiWithFilters는 keyword가 있을 때만 DB 부분 문자열 검색을 한다
+     */
+    private static boolean readsDatabase(final McpSchema.CallToolRequest request) {
+        if (!INDEX_TOOLS.contains(request.name())) {
+            return true;
+        }
+        if (!FILTER_TOOL.equals(request.name()) || request.arguments() == null) {
+            return false;
+        }
+        final Object keyword = request.arguments().get("keyword");
+        return keyword != null && !keyword.toString().isBlank();
+    }
+}
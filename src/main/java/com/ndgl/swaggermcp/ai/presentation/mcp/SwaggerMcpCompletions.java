@@ -0,0 +1,82 @@
+package com.ndgl.swaggermcp.ai.presentation.mcp;
+
+import com.ndgl.swaggermcp.ai.index.CompletionIndex;
+import com.ndgl.swaggermcp.ai.service.ApiIndexService;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springaicommunity.mcp.annotation.McpComplete;
+import org.springframework.stereotype.Component;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Swagger MCP Completions
+ * resource template 인자(source, method, path, tag)에 대한 completion/complete 응답
+ *
+ * MCP completion은 prompt / resource template 인자만 대상으로 하므로, 도구 인자 자동완성은 completeApiArgument 도구로 제공한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SwaggerMcpCompletions {
+
+    /**
+     * MCP 명세상 completion 응답 최대 값 수
+     */
+    private static final int MAX_VALUES = 100;
+
+    private static final List<String> METHODS = List.of("DELETE", "GET", "HEAD", "OPTIONS", "PATCH", "POST", "PUT");
+
+    private final ApiIndexService apiIndexService;
+
+    @McpComplete(uri = "swagger://endpoint/{source}/{method}/{path}")
+    public McpSchema.CompleteResult completeEndpoint(final McpSchema.CompleteRequest request) {
+        final String name = request.argument().name();
+        final String value = request.argument().value();
+
+        if ("source".equals(name)) {
+            return result(apiIndexService.complete(ApiIndexService.COMPLETION_SOURCE, value, MAX_VALUES));
+        }
+
+        if ("method".equals(name)) {
+            final String prefix = value == null ? "" : value.toUpperCase(Locale.ROOT);
+            final List<String> methods = METHODS.stream().filter(method -> method.startsWith(prefix)).toList();
+            return result(new CompletionIndex.Completion(methods, methods.size()));
+        }
+
+        return result(apiIndexService.complete(ApiIndexService.COMPLETION_PATH, decode(value), MAX_VALUES));
+    }
+
+    @McpComplete(uri = "swagger://tag/{tag}")
+    public McpSchema.CompleteResult completeTag(final McpSchema.CompleteRequest request) {
+        return result(apiIndexService.complete(ApiIndexService.COMPLETION_TAG, decode(request.argument().value()), MAX_VALUES));
+    }
+
+    /**
+     * resource URI에는 URL 인코딩된 값이 들어가므로 입력값도 디코딩해서 찾는다 (입력 중인 불완전한 %xx는 그대로 사용)
+     */
+    private String decode(final String value) {
+        if (value == null) {
+            return "";
+        }
+
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+
+    private McpSchema.CompleteResult result(final CompletionIndex.Completion completion) {
+        final List<String> values = completion.values().stream()
+                .map(value -> URLEncoder.encode(value, StandardCharsets.UTF_8))
+                .toList();
+        return new McpSchema.CompleteResult(new McpSchema.CompleteResult.CompleteCompletion(
+                values, completion.total(), completion.hasMore()));
+    }
+}
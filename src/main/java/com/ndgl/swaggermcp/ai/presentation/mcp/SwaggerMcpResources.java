@@ -0,0 +1,157 @@
+package com.ndgl.swaggermcp.ai.presentation.mcp;
+
+import com.ndgl.swaggermcp.ai.service.ApiResourceService;
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncCompletedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.RequiredArgsConstructor;
+import org.springaicommunity.mcp.annotation.McpResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Swagger MCP Resources
+ * 엔드포인트와 tag를 MCP resource로 등록하고, 동기화 후 본문이 바뀐 resource의 URI로 resources/updated 알림을 보낸다.
+ * MCP SDK(0.17)에는 resources/subscribe 처리기가 없어 구독을 받지 않으므로, 이 알림은 구독 여부와 관계없이 모든 세션에 간다.
+ * resources.listChanged capability는 알리지 않으므로 (resource-change-notification: false) resources/list_changed도 보내지 않는다.
+ * SDK는 capability를 켜면 resource 하나를 추가/삭제할 때마다 알림을 보내므로, 첫 동기화에 엔드포인트 수만큼 알림이 나가지 않도록 끈 채로 둔다.
+ *
+ * - swagger://endpoint/{source id}/{METHOD}/{URL 인코딩된 path}: getApiDetail과 같은 내용 (ID 제외)
+ * - swagger://tag/{tag}: tag에 속한 엔드포인트 목록
+ *
+ * 개별 resource와 별도로 같은 URI template을 @McpResource로 선언해 두어 completion/complete 요청을 받을 수 있게 한다.
+ * ASYNC 서버에서는 개별 resource만 등록된다 (template과 completion은 SYNC 서버 전용).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SwaggerMcpResources {
+
+    private static final String MIME_TYPE = "application/json";
+
+    private final ApiResourceService apiResourceService;
+    private final ObjectProvider<McpSyncServer> mcpServer;
+    private final ObjectProvider<McpAsyncServer> mcpAsyncServer;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        publish();
+    }
+
+    @EventListener
+    public void onSwaggerSyncCompleted(final SwaggerSyncCompletedEvent event) {
+        publish();
+    }
+
+    /**
+     * 캐시를 갱신하고 추가/삭제된 resource를 서버에 반영, 변경된 resource는 알림
+     * 실패해도 동기화 결과에는 영향을 주지 않는다.
+     */
+    private void publish() {
+        final McpSyncServer server = mcpServer.getIfAvailable();
+        if (server != null) {
+            publish(server);
+            return;
+        }
+
+        final McpAsyncServer asyncServer = mcpAsyncServer.getIfAvailable();
+        if (asyncServer != null) {
+            publish(asyncServer);
+            return;
+        }
+
+        log.warn("MCP 서버가 없어 MCP resource를 등록하지 않습니다");
+    }
+
+    private void publish(final McpSyncServer server) {
+        try {
+            final ApiResourceService.Refresh refresh = apiResourceService.refresh();
+            refresh.removed().forEach(server::removeResource);
+            refresh.added().forEach(resource -> server.addResource(specification(resource)));
+            refresh.updated().forEach(uri ->
+                    server.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification(uri)));
+            countUpdated(refresh.updated());
+        } catch (Exception e) {
+            log.warn("MCP resource 반영 실패", e);
+        }
+    }
+
+    /**
+     * 이벤트는 reactor-netty 스레드(HTTP 동기화 요청)에서도 발행되므로 block하지 않는다.
+     * 캐시 갱신은 boundedElastic에서 하고, 삭제 → 추가 → 본문 변경 알림 순서로 이어서 구독만 걸어 둔다.
+     */
+    private void publish(final McpAsyncServer server) {
+        Mono.fromCallable(apiResourceService::refresh)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(refresh -> Flux.fromIterable(refresh.removed())
+                        .concatMap(server::removeResource)
+                        .thenMany(Flux.fromIterable(refresh.added())
+                                .concatMap(resource -> server.addResource(asyncSpecification(resource))))
+                        .thenMany(Flux.fromIterable(refresh.updated())
+                                .concatMap(uri -> server.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification(uri))))
+                        .then(Mono.fromRunnable(() -> countUpdated(refresh.updated()))))
+                .subscribe(ignored -> { }, e -> log.warn("MCP resource 반영 실패", e));
+    }
+
+    @McpResource(uri = "swagger://endpoint/{source}/{method}/{path}", name = "endpoint",
+            description = "API endpoint detail by spec source id, HTTP method and URL-encoded path template", mimeType = MIME_TYPE)
+    public String endpoint(final String source, final String method, final String path) {
+        return readOrThrow(ApiResourceService.ENDPOINT_URI_PREFIX + source + "/" + method.toUpperCase() + "/" + path);
+    }
+
+    @McpResource(uri = "swagger://tag/{tag}", name = "tag",
+            description = "API endpoints grouped under a tag", mimeType = MIME_TYPE)
+    public String tag(final String tag) {
+        return readOrThrow(ApiResourceService.TAG_URI_PREFIX + tag);
+    }
+
+    private String readOrThrow(final String uri) {
+        return apiResourceService.read(uri)
+                .orElseThrow(() -> McpError.RESOURCE_NOT_FOUND.apply(uri));
+    }
+
+    private void countUpdated(final List<String> uris) {
+        if (!uris.isEmpty()) {
+            meterRegistry.counter("mcp.resource.updates").increment(uris.size());
+            log.info("MCP resources/updated 알림: {} 건", uris.size());
+        }
+    }
+
+    private McpServerFeatures.SyncResourceSpecification specification(final ApiResourceService.CachedResource resource) {
+        return new McpServerFeatures.SyncResourceSpecification(mcpResource(resource),
+                (exchange, request) -> readResult(request.uri()));
+    }
+
+    private McpServerFeatures.AsyncResourceSpecification asyncSpecification(final ApiResourceService.CachedResource resource) {
+        return new McpServerFeatures.AsyncResourceSpecification(mcpResource(resource),
+                (exchange, request) -> Mono.fromCallable(() -> readResult(request.uri())));
+    }
+
+    private McpSchema.Resource mcpResource(final ApiResourceService.CachedResource resource) {
+        return McpSchema.Resource.builder()
+                .uri(resource.uri())
+                .name(resource.name())
+                .description(resource.description())
+                .mimeType(MIME_TYPE)
+                .build();
+    }
+
+    private McpSchema.ReadResourceResult readResult(final String uri) {
+        return new McpSchema.ReadResourceResult(List.of(
+                new McpSchema.TextResourceContents(uri, MIME_TYPE, readOrThrow(uri))
+        ));
+    }
+}
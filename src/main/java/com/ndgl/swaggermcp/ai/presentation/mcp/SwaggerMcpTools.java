@@ -1,98 +1,346 @@
 package com.ndgl.swaggermcp.ai.presentation.mcp;
 
-import com.ndgl.swaggermcp.ai.dto.ApiDetailForAI;
-import com.ndgl.swaggermcp.ai.dto.ApiSummary;
-import com.ndgl.swaggermcp.ai.dto.ErrorForAI;
-import com.ndgl.swaggermcp.ai.dto.RequestForAI;
-import com.ndgl.swaggermcp.ai.dto.ResponseForAI;
+import com.ndgl.swaggermcp.ai.dto.ApiSearchFilter;
 import com.ndgl.swaggermcp.ai.service.ApiSearchService;
+import com.ndgl.swaggermcp.ai.support.McpToolGuard;
+import com.ndgl.swaggermcp.ai.support.ResponseBudgetSupporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Swagger MCP Tools
  * Claude가 사용할 수 있는 API 검색 및 조회 도구
+ *
+ * 모든 도구는 maxTokens / cursor를 선택적으로 받는다.
+ * 둘 다 없으면 기존과 같은 전체 결과를, 하나라도 있으면 예산만큼 자른 BudgetedResponse를 반환한다.
+ * ASYNC 서버에서는 AsyncSwaggerMcpToolsAdapter가 같은 도구를 boundedElastic 스케줄러에서 실행한다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SwaggerMcpTools {
 
+    static final String MAX_TOKENS_DESCRIPTION =
+            "Optional response budget in estimated tokens. When exceeded, the result is cut and a nextCursor is returned.";
+    static final String CURSOR_DESCRIPTION =
+            "Optional nextCursor from a previous truncated response of the same tool and arguments.";
+
+    static final int DEFAULT_COMPLETION_LIMIT = 20;
+    static final int MAX_COMPLETION_LIMIT = 100;
+    static final int DEFAULT_CHANGE_LOG_LIMIT = 10;
+    static final int MAX_CHANGE_LOG_LIMIT = 100;
+
     private final ApiSearchService apiSearchService;
+    private final McpToolGuard toolGuard;
+    private final ResponseBudgetSupporter budgetSupporter;
 
     /**
      * 키워드로 API 검색
      *
      * @param keyword 검색 키워드 (path, summary, description, tags에서 검색)
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
      * @return API 요약 리스트
      */
     @McpTool(description = "Search API endpoints by keyword. Searches in path, summary, description, and tags.")
-    public List<ApiSummary> searchApiByKeyword(
-        @McpToolParam(description = "Search keyword", required = true) final String keyword
+    public Object searchApiByKeyword(
+        @McpToolParam(description = "Search keyword", required = true) final String keyword,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
     ) {
         log.info("[MCP Tool] searchApiByKeyword 호출: {}", keyword);
-        return apiSearchService.searchApiByKeyword(keyword);
+        return toolGuard.call("searchApiByKeyword", keyword, () -> budgetSupporter.apply(
+                "searchApiByKeyword", keyword,
+                apiSearchService.searchApiByKeyword(keyword), List::copyOf,
+                maxTokens, cursor));
+    }
+
+    /**
+     * 구조화 조건으로 API 검색
+     *
+     * @param keyword 검색 키워드 (선택)
+     * @param methods HTTP method 목록
+     * @param tags tag 목록
+     * @param hasRequestBody request body 유무
+     * @param statusCode 응답 상태 코드
+     * @param parameterName 파라미터 이름
+     * @param parameterIn 파라미터 위치
+     * @param pathPrefix path 앞부분
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
+     * @return API 요약 리스트
+     */
+    @McpTool(description = "Search API endpoints with structured filters, optionally combined with a keyword. Values inside one filter are OR-ed (methods: [POST, PUT]); different filters are AND-ed. Omitted filters are ignored.")
+    public Object searchApiWithFilters(
+        @McpToolParam(description = "Optional search keyword (same matching as searchApiByKeyword)", required = false) final String keyword,
+        @McpToolParam(description = "HTTP methods, any of (e.g. [\"POST\", \"PUT\"])", required = false) final List<String> methods,
+        @McpToolParam(description = "Tags, any of (case-insensitive)", required = false) final List<String> tags,
+        @McpToolParam(description = "true: only endpoints with a request body, false: only without", required = false) final Boolean hasRequestBody,
+        @McpToolParam(description = "Status code the endpoint may return (success or error), e.g. 201", required = false) final Integer statusCode,
+        @McpToolParam(description = "Parameter name, e.g. X-Request-Id", required = false) final String parameterName,
+        @McpToolParam(description = "Parameter location: path, query, header, cookie", required = false) final String parameterIn,
+        @McpToolParam(description = "Path prefix matched on whole segments, e.g. /api/v1/users (does not match /api/v1/users-admin)", required = false) final String pathPrefix,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
+    ) {
+        final ApiSearchFilter filter = new ApiSearchFilter(
+                keyword, methods, tags, hasRequestBody, statusCode, parameterName, parameterIn, pathPrefix);
+        log.info("[MCP Tool] searchApiWithFilters 호출: {}", filter);
+        final String target = filter.toString();
+        return toolGuard.call("searchApiWithFilters", target, () -> budgetSupporter.apply(
+                "searchApiWithFilters", target,
+                apiSearchService.searchApiWithFilters(filter), List::copyOf,
+                maxTokens, cursor));
+    }
+
+    /**
+     * path / tag / operationId / errorCode 자동완성
+     *
+     * @param argument 자동완성할 인자 종류
+     * @param prefix 입력 중인 값
+     * @param limit 최대 반환 수
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
+     * @return prefix로 시작하는 값
+     */
+    @McpTool(description = "Autocomplete exact values for other tools' arguments: endpoint path templates, tags, operationIds or error codes starting with a prefix (case-insensitive). Much cheaper than a broad keyword search.")
+    public Object completeApiArgument(
+        @McpToolParam(description = "What to complete: path, tag, operationId or errorCode", required = true) final String argument,
+        @McpToolParam(description = "Typed prefix, e.g. /api/v1/us or USR-AUTH. Empty lists from the start.", required = false) final String prefix,
+        @McpToolParam(description = "Maximum number of values (default 20, max 100)", required = false) final Integer limit,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
+    ) {
+        log.info("[MCP Tool] completeApiArgument 호출: {} {}", argument, prefix);
+        final int size = limit == null ? DEFAULT_COMPLETION_LIMIT : Math.min(Math.max(limit, 1), MAX_COMPLETION_LIMIT);
+        final String target = argument + ":" + prefix + ":" + size;
+        return toolGuard.call("completeApiArgument", target, () -> budgetSupporter.apply(
+                "completeApiArgument", target,
+                apiSearchService.completeApiArgument(argument, prefix, size), List::of,
+                maxTokens, cursor));
+    }
+
+    /**
+     * 실제 URL로 API 조회
+     *
+     * @param method HTTP method
+     * @param url 실제 URL
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
+     * @return 일치한 API와 path 변수 값 (source마다 하나)
+     */
+    @McpTool(description = "Find the API endpoint for a concrete HTTP method and URL (e.g. GET /users/42/travels/7 from a log). Returns the matching path template and extracted path variables, one entry per spec source when several specs define the same route.")
+    public Object resolveApiByUrl(
+        @McpToolParam(description = "HTTP method (GET, POST, ...)", required = true) final String method,
+        @McpToolParam(description = "Concrete URL or path. Host and query string are ignored.", required = true) final String url,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
+    ) {
+        log.info("[MCP Tool] resolveApiByUrl 호출: {} {}", method, url);
+        final String target = method + " " + url;
+        return toolGuard.call("resolveApiByUrl", target, () -> budgetSupporter.apply(
+                "resolveApiByUrl", target,
+                apiSearchService.resolveApiByUrl(method, url), List::copyOf,
+                maxTokens, cursor));
+    }
+
+    /**
+     * 필드 이름으로 API 조회
+     *
+     * @param field 필드 이름 또는 경로 끝부분
+     * @param direction request / response / parameter
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
+     * @return 필드 사용 위치 리스트
+     */
+    @McpTool(description = "Find API endpoints whose request body, response body, or parameters contain a field. Accepts a field name (travelId) or a path suffix (travels[].travelId).")
+    public Object findApiByField(
+        @McpToolParam(description = "Field name or dotted path suffix", required = true) final String field,
+        @McpToolParam(description = "Optional filter: request, response, or parameter", required = false) final String direction,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
+    ) {
+        log.info("[MCP Tool] findApiByField 호출: {} ({})", field, direction);
+        final String target = field + ":" + direction;
+        return toolGuard.call("findApiByField", target, () -> budgetSupporter.apply(
+                "findApiByField", target,
+                apiSearchService.findApiByField(field, direction), List::copyOf,
+                maxTokens, cursor));
+    }
+
+    /**
+     * 에러 코드 조회
+     *
+     * @param code 전체 또는 부분 에러 코드
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
+     * @return 에러 정보와 발생 API 리스트
+     */
+    @McpTool(description = "Look up an error code (e.g. USR-AUTH-001 from a log) and return its status, message, and the API endpoints that can return it. Accepts a full code, a prefix (USR-AUTH), or any part of the code.")
+    public Object lookupErrorCode(
+        @McpToolParam(description = "Full or partial error code", required = true) final String code,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
+    ) {
+        log.info("[MCP Tool] lookupErrorCode 호출: {}", code);
+        return toolGuard.call("lookupErrorCode", code, () -> budgetSupporter.apply(
+                "lookupErrorCode", code,
+                apiSearchService.lookupErrorCode(code), List::copyOf,
+                maxTokens, cursor));
+    }
+
+    /**
+     * DTO를 사용하는 API 조회
+     *
+     * @param dtoName DTO 이름
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
+     * @return 직접/간접 참조 위치 리스트
+     */
+    @McpTool(description = "List every API endpoint whose request, response, or error body uses a DTO (component schema), directly or through nested references. depth 0 = the body itself, 1 = a direct field, 2+ = via another DTO.")
+    public Object findApiByDto(
+        @McpToolParam(description = "DTO (component schema) name, e.g. UserProfileResponse", required = true) final String dtoName,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
+    ) {
+        log.info("[MCP Tool] findApiByDto 호출: {}", dtoName);
+        return toolGuard.call("findApiByDto", dtoName, () -> budgetSupporter.apply(
+                "findApiByDto", dtoName,
+                apiSearchService.findApiByDto(dtoName), List::copyOf,
+                maxTokens, cursor));
+    }
+
+    /**
+     * 스펙 변경 내역 조회
+     *
+     * @param since 이 날짜/시각 이후 동기화만
+     * @param limit 최대 조회 건수
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
+     * @return 최신순 변경 내역
+     */
+    @McpTool(description = "List what changed in the API spec per sync: added, removed, and modified operations (\"sourceId METHOD path\", sourceId = 8 hex chars identifying the spec source) with the changed sections (info, request, parameters, response.<status>, error.<status>). Newest first.")
+    public Object getApiChangeLog(
+        @McpToolParam(description = "Only syncs after this ISO date or date-time, e.g. 2026-10-18 or 2026-10-18T09:00:00", required = false) final String since,
+        @McpToolParam(description = "Maximum number of syncs to return (default 10, max 100)", required = false) final Integer limit,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
+    ) {
+        log.info("[MCP Tool] getApiChangeLog 호출: since={}, limit={}", since, limit);
+        final int size = limit == null ? DEFAULT_CHANGE_LOG_LIMIT : Math.min(Math.max(limit, 1), MAX_CHANGE_LOG_LIMIT);
+        final String target = since + ":" + size;
+        return toolGuard.call("getApiChangeLog", target, () -> budgetSupporter.apply(
+                "getApiChangeLog", target,
+                apiSearchService.getApiChangeLog(parseSince(since), size), List::copyOf,
+                maxTokens, cursor));
     }
 
     /**
      * API 상세 정보 조회
      *
      * @param apiId API ID
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
      * @return API 상세 정보 (Request, Response, Error 포함)
      */
     @McpTool(description = "Get detailed API information including request body, parameters, responses, and errors. Returns AI-friendly format.")
-    public ApiDetailForAI getApiDetail(
-        @McpToolParam(description = "API endpoint ID", required = true) final Long apiId
+    public Object getApiDetail(
+        @McpToolParam(description = "API endpoint ID", required = true) final Long apiId,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
     ) {
         log.info("[MCP Tool] getApiDetail 호출: {}", apiId);
-        return apiSearchService.getApiDetail(apiId);
+        return toolGuard.call("getApiDetail", apiId, () -> budgetSupporter.apply(
+                "getApiDetail", String.valueOf(apiId),
+                apiSearchService.getApiDetail(apiId), budgetSupporter::detailSections,
+                maxTokens, cursor));
     }
 
     /**
      * API Request 포맷 조회
      *
      * @param apiId API ID
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
      * @return Request 포맷 (Body + Parameters)
      */
     @McpTool(description = "Get request format for API endpoint including body schema and parameters.")
-    public RequestForAI getRequestFormat(
-        @McpToolParam(description = "API endpoint ID", required = true) final Long apiId
+    public Object getRequestFormat(
+        @McpToolParam(description = "API endpoint ID", required = true) final Long apiId,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
     ) {
         log.info("[MCP Tool] getRequestFormat 호출: {}", apiId);
-        return apiSearchService.getRequestFormat(apiId);
+        return toolGuard.call("getRequestFormat", apiId, () -> budgetSupporter.apply(
+                "getRequestFormat", String.valueOf(apiId),
+                apiSearchService.getRequestFormat(apiId), budgetSupporter::requestSections,
+                maxTokens, cursor));
     }
 
     /**
      * API Response 포맷 조회
      *
      * @param apiId API ID
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
      * @return 상태 코드별 Response 포맷
      */
     @McpTool(description = "Get success response formats for API endpoint by status code.")
-    public Map<Integer, ResponseForAI> getResponseFormat(
-        @McpToolParam(description = "API endpoint ID", required = true) final Long apiId
+    public Object getResponseFormat(
+        @McpToolParam(description = "API endpoint ID", required = true) final Long apiId,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
     ) {
         log.info("[MCP Tool] getResponseFormat 호출: {}", apiId);
-        return apiSearchService.getResponseFormat(apiId);
+        return toolGuard.call("getResponseFormat", apiId, () -> budgetSupporter.apply(
+                "getResponseFormat", String.valueOf(apiId),
+                apiSearchService.getResponseFormat(apiId), budgetSupporter::responseSections,
+                maxTokens, cursor));
     }
 
     /**
      * API Error 포맷 조회
      *
      * @param apiId API ID
+     * @param maxTokens 응답 토큰 예산
+     * @param cursor 이어서 조회할 cursor
      * @return 상태 코드별 Error 포맷
      */
     @McpTool(description = "Get error response formats for API endpoint by status code. Includes error codes and messages.")
-    public Map<Integer, ErrorForAI> getErrorFormats(
-        @McpToolParam(description = "API endpoint ID", required = true) final Long apiId
+    public Object getErrorFormats(
+        @McpToolParam(description = "API endpoint ID", required = true) final Long apiId,
+        @McpToolParam(description = MAX_TOKENS_DESCRIPTION, required = false) final Integer maxTokens,
+        @McpToolParam(description = CURSOR_DESCRIPTION, required = false) final String cursor
     ) {
         log.info("[MCP Tool] getErrorFormats 호출: {}", apiId);
-        return apiSearchService.getErrorFormats(apiId);
+        return toolGuard.call("getErrorFormats", apiId, () -> budgetSupporter.apply(
+                "getErrorFormats", String.valueOf(apiId),
+                apiSearchService.getErrorFormats(apiId), budgetSupporter::errorSections,
+                maxTokens, cursor));
+    }
+
+    /**
+     * ISO 날짜(하루의 시작으로 간주) 또는 날짜-시각 파싱
+     */
+    static LocalDateTime parseSince(final String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+
+        try {
+            return since.contains("T")
+                    ? LocalDateTime.parse(since.trim())
+                    : LocalDate.parse(since.trim()).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("since는 ISO 날짜 또는 날짜-시각이어야 합니다: " + since);
+        }
     }
 }
@@ -0,0 +1,481 @@
+package com.ndgl.swaggermcp.ai.service;
+
+import com.ndgl.swaggermcp.ai.dto.ApiCompletion;
+import com.ndgl.swaggermcp.ai.dto.ApiSearchFilter;
+import com.ndgl.swaggermcp.ai.dto.ApiSummary;
+import com.ndgl.swaggermcp.ai.dto.DtoUsage;
+import com.ndgl.swaggermcp.ai.dto.ErrorCodeInfo;
+import com.ndgl.swaggermcp.ai.dto.FieldUsage;
+import com.ndgl.swaggermcp.ai.dto.ResolvedApi;
+import com.ndgl.swaggermcp.ai.index.ApiIndexSnapshot;
+import com.ndgl.swaggermcp.ai.index.CompletionIndex;
+import com.ndgl.swaggermcp.ai.index.DtoUsageIndex;
+import com.ndgl.swaggermcp.ai.index.ErrorCatalog;
+import com.ndgl.swaggermcp.ai.index.FieldIndex;
+import com.ndgl.swaggermcp.ai.index.FilterIndex;
+import com.ndgl.swaggermcp.ai.index.NgramIndex;
+import com.ndgl.swaggermcp.ai.index.PathTemplateTrie;
+import com.ndgl.swaggermcp.persistence.entity.ApiEndpoint;
+import com.ndgl.swaggermcp.persistence.entity.ErrorResponse;
+import com.ndgl.swaggermcp.persistence.entity.Parameter;
+import com.ndgl.swaggermcp.persistence.entity.RequestSchema;
+import com.ndgl.swaggermcp.persistence.entity.ResponseSchema;
+import com.ndgl.swaggermcp.persistence.repository.ApiEndpointRepository;
+import com.ndgl.swaggermcp.persistence.repository.ErrorResponseRepository;
+import com.ndgl.swaggermcp.persistence.repository.ParameterRepository;
+import com.ndgl.swaggermcp.persistence.repository.RequestSchemaRepository;
+import com.ndgl.swaggermcp.persistence.repository.ResponseSchemaRepository;
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncCompletedEvent;
+import com.ndgl.swaggermcp.sync.support.ContentHashSupport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 엔드포인트 인메모리 인덱스 관리 서비스
+ * 서버 기동 시와 동기화 성공 시 DB에서 인덱스를 다시 만들어 스냅샷을 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiIndexService {
+
+    private final ApiEndpointRepository apiEndpointRepository;
+    private final RequestSchemaRepository requestSchemaRepository;
+    private final ResponseSchemaRepository responseSchemaRepository;
+    private final ParameterRepository parameterRepository;
+    private final ErrorResponseRepository errorResponseRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    public static final String COMPLETION_PATH = "path";
+    public static final String COMPLETION_TAG = "tag";
+    public static final String COMPLETION_OPERATION_ID = "operationId";
+    public static final String COMPLETION_ERROR_CODE = "errorCode";
+
+    /**
+     * resource URI template 자동완성 전용 (completeApiArgument 도구 인자로는 받지 않는다)
+     */
+    public static final String COMPLETION_SOURCE = "source";
+
+    private static final List<String> COMPLETION_ARGUMENTS = List.of(
+            COMPLETION_PATH, COMPLETION_TAG, COMPLETION_OPERATION_ID, COMPLETION_ERROR_CODE);
+
+    private final AtomicReference<ApiIndexSnapshot> snapshot = new AtomicReference<>(ApiIndexSnapshot.empty());
+
+    // 재구성 중 DB를 읽으므로 synchronized 대신 ReentrantLock 사용 (virtual thread pinning 방지)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onSwaggerSyncCompleted(final SwaggerSyncCompletedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * DB 기준으로 인덱스 재구성
+     * 시작 시 재구성과 동기화 후 재구성이 겹쳐도 늦게 읽은 쪽이 나중에 스냅샷을 교체하도록 한 번에 하나씩 실행하고,
+     * 엔드포인트와 하위 테이블을 한 읽기 전용 트랜잭션에서 읽어 그 사이에 커밋된 동기화가 섞이지 않게 한다.
+     * 실패하면 기존 스냅샷을 유지한다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> doRebuild());
+        } catch (Exception e) {
+            log.warn("API 인덱스 재구성 실패, 기존 인덱스 유지", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void doRebuild() {
+        final long startNanos = System.nanoTime();
+        final List<ApiEndpoint> endpoints = apiEndpointRepository.findAll();
+
+        final List<ApiSummary> summaries = new ArrayList<>(endpoints.size());
+        final Map<Long, Integer> documents = new HashMap<>(endpoints.size() * 2);
+        final NgramIndex.Builder ngramBuilder = NgramIndex.builder();
+        final PathTemplateTrie.Builder trieBuilder = PathTemplateTrie.builder();
+        final FilterIndex.Builder filterBuilder = FilterIndex.builder();
+        final CompletionIndex.Builder completionBuilder = CompletionIndex.builder();
+        for (final ApiEndpoint endpoint : endpoints) {
+            final String sourceId = ContentHashSupport.sourceId(endpoint.getSource());
+            completionBuilder.add(COMPLETION_PATH, endpoint.getPath())
+                    .add(COMPLETION_OPERATION_ID, endpoint.getOperationId())
+                    .add(COMPLETION_SOURCE, sourceId);
+            if (endpoint.getTags() != null) {
+                endpoint.getTags().forEach(tag -> completionBuilder.add(COMPLETION_TAG, tag));
+            }
+            documents.put(endpoint.getId(), summaries.size());
+            filterBuilder.add(endpoint.getMethod(), endpoint.getPath(), endpoint.getTags(), endpoint.getStatusCodes());
+            trieBuilder.add(summaries.size(), sourceId, endpoint.getMethod(), endpoint.getPath());
+            summaries.add(new ApiSummary(
+                    endpoint.getId(),
+                    endpoint.getPath(),
+                    endpoint.getMethod(),
+                    endpoint.getSummary(),
+                    endpoint.getTags()
+            ));
+            ngramBuilder.add(
+                    endpoint.getPath(),
+                    endpoint.getOperationId(),
+                    endpoint.getSummary(),
+                    endpoint.getDescription(),
+                    endpoint.getTags() == null ? null : String.join(" ", endpoint.getTags())
+            );
+        }
+
+        final List<RequestSchema> requestSchemas = requestSchemaRepository.findAll();
+        final List<ResponseSchema> responseSchemas = responseSchemaRepository.findAll();
+        final List<ErrorResponse> errorResponses = errorResponseRepository.findAll();
+        final List<Parameter> parameters = parameterRepository.findAll();
+        errorResponses.forEach(error -> completionBuilder.add(COMPLETION_ERROR_CODE, error.getCode()));
+
+        final NgramIndex ngramIndex = ngramBuilder.build();
+        final FieldIndex fieldIndex = buildFieldIndex(documents, requestSchemas, responseSchemas, parameters);
+        final ErrorCatalog errorCatalog = buildErrorCatalog(documents, errorResponses);
+        final DtoUsageIndex dtoUsageIndex = buildDtoUsageIndex(documents, requestSchemas, responseSchemas, errorResponses);
+        final FilterIndex filterIndex = buildFilterIndex(filterBuilder, endpoints, documents, requestSchemas,
+                responseSchemas, errorResponses, parameters);
+        snapshot.set(new ApiIndexSnapshot(
+                List.copyOf(summaries),
+                Map.copyOf(documents),
+                ngramIndex,
+                trieBuilder.build(),
+                fieldIndex,
+                errorCatalog,
+                dtoUsageIndex,
+                filterIndex,
+                completionBuilder.build()
+        ));
+
+        log.info("API 인덱스 재구성 완료: {} 엔드포인트, {} 단어, {} 필드명, {} 에러 코드, {} DTO ({}ms)",
+                summaries.size(), ngramIndex.termCount(), fieldIndex.fieldNameCount(), errorCatalog.codeCount(),
+                dtoUsageIndex.dtoCount(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Request/Response body와 파라미터의 필드 역색인 생성
+     */
+    private FieldIndex buildFieldIndex(final Map<Long, Integer> documents, final List<RequestSchema> requestSchemas,
+                                       final List<ResponseSchema> responseSchemas,
+                                       final List<Parameter> parameters) {
+        final FieldIndex.Builder builder = FieldIndex.builder();
+
+        for (final RequestSchema requestSchema : requestSchemas) {
+            final Integer document = documents.get(requestSchema.getApiEndpointId());
+            if (document != null) {
+                builder.addSchema(document, "request", null, requestSchema.getSchemaJson());
+            }
+        }
+
+        for (final ResponseSchema responseSchema : responseSchemas) {
+            final Integer document = documents.get(responseSchema.getApiEndpointId());
+            if (document != null) {
+                builder.addSchema(document, "response", responseSchema.getStatusCode(), responseSchema.getSchemaJson());
+            }
+        }
+
+        for (final Parameter parameter : parameters) {
+            final Integer document = documents.get(parameter.getApiEndpointId());
+            if (document != null) {
+                builder.addParameter(document, parameter.getIn(), parameter.getName(), parameter.getType(),
+                        parameter.getRequired());
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 에러 코드 카탈로그 생성
+     */
+    private ErrorCatalog buildErrorCatalog(final Map<Long, Integer> documents, final List<ErrorResponse> errorResponses) {
+        final ErrorCatalog.Builder builder = ErrorCatalog.builder();
+
+        for (final ErrorResponse error : errorResponses) {
+            final Integer document = documents.get(error.getApiEndpointId());
+            if (document != null) {
+                builder.add(document, error.getCode(), error.getStatusCode(), error.getMessage(),
+                        error.getDomainCode(), error.getCategoryCode(), error.getDetailCode(), error.getDescription());
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * DTO 역참조 인덱스 생성
+     * referenced_dtos가 없는 이전 동기화 데이터는 dtoName만 깊이 0으로 넣는다.
+     */
+    private DtoUsageIndex buildDtoUsageIndex(final Map<Long, Integer> documents,
+                                             final List<RequestSchema> requestSchemas,
+                                             final List<ResponseSchema> responseSchemas,
+                                             final List<ErrorResponse> errorResponses) {
+        final DtoUsageIndex.Builder builder = DtoUsageIndex.builder();
+
+        for (final RequestSchema requestSchema : requestSchemas) {
+            final Integer document = documents.get(requestSchema.getApiEndpointId());
+            if (document != null) {
+                builder.add(document, "request", null,
+                        referencedDtos(requestSchema.getReferencedDtos(), requestSchema.getDtoName()));
+            }
+        }
+
+        for (final ResponseSchema responseSchema : responseSchemas) {
+            final Integer document = documents.get(responseSchema.getApiEndpointId());
+            if (document != null) {
+                builder.add(document, "response", responseSchema.getStatusCode(),
+                        referencedDtos(responseSchema.getReferencedDtos(), responseSchema.getDtoName()));
+            }
+        }
+
+        for (final ErrorResponse error : errorResponses) {
+            final Integer document = documents.get(error.getApiEndpointId());
+            if (document != null) {
+                builder.add(document, "error", error.getStatusCode(), error.getReferencedDtos());
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 속성별 bitmap 필터 인덱스 생성
+     * status_codes가 없는 이전 동기화 데이터는 저장된 response / error 행의 상태 코드로 대신한다.
+     */
+    private FilterIndex buildFilterIndex(final FilterIndex.Builder builder, final List<ApiEndpoint> endpoints,
+                                         final Map<Long, Integer> documents,
+                                         final List<RequestSchema> requestSchemas,
+                                         final List<ResponseSchema> responseSchemas,
+                                         final List<ErrorResponse> errorResponses,
+                                         final List<Parameter> parameters) {
+        final Set<Long> legacyEndpointIds = new HashSet<>();
+        for (final ApiEndpoint endpoint : endpoints) {
+            if (endpoint.getStatusCodes() == null) {
+                legacyEndpointIds.add(endpoint.getId());
+            }
+        }
+
+        for (final RequestSchema requestSchema : requestSchemas) {
+            final Integer document = documents.get(requestSchema.getApiEndpointId());
+            if (document != null) {
+                builder.addRequestBody(document);
+            }
+        }
+
+        for (final ResponseSchema responseSchema : responseSchemas) {
+            final Integer document = documents.get(responseSchema.getApiEndpointId());
+            if (document != null && legacyEndpointIds.contains(responseSchema.getApiEndpointId())) {
+                builder.addStatusCode(document, responseSchema.getStatusCode());
+            }
+        }
+
+        for (final ErrorResponse error : errorResponses) {
+            final Integer document = documents.get(error.getApiEndpointId());
+            if (document != null && legacyEndpointIds.contains(error.getApiEndpointId())) {
+                builder.addStatusCode(document, error.getStatusCode());
+            }
+        }
+
+        for (final Parameter parameter : parameters) {
+            final Integer document = documents.get(parameter.getApiEndpointId());
+            if (document != null) {
+                builder.addParameter(document, parameter.getIn(), parameter.getName());
+            }
+        }
+
+        return builder.build();
+    }
+
+    private Map<String, Integer> referencedDtos(final Map<String, Integer> referencedDtos, final String dtoName) {
+        if (referencedDtos != null) {
+            return referencedDtos;
+        }
+        return dtoName == null || dtoName.isBlank() ? Map.of() : Map.of(dtoName, 0);
+    }
+
+    public ApiIndexSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * 오타/부분 일치 허용 검색
+     *
+     * @param keyword 검색 키워드
+     * @return 점수 내림차순 API 요약 리스트
+     */
+    public List<ApiSummary> fuzzySearch(final String keyword) {
+        final ApiIndexSnapshot current = snapshot.get();
+        return current.ngramIndex().search(keyword).stream()
+                .map(match -> current.summaries().get(match.document()))
+                .toList();
+    }
+
+    /**
+     * 구조화 조건으로 API 조회
+     * 속성별 bitmap 교집합으로 후보를 구한 뒤, 키워드 검색 결과가 주어지면 그 순서를 유지한 채 후보만 남긴다.
+     *
+     * @param filter 검색 조건
+     * @param keywordResults 키워드 검색 결과 (null이면 문서 순서대로 전체 후보)
+     * @return 조건을 만족하는 API 요약 리스트
+     */
+    public List<ApiSummary> filter(final ApiSearchFilter filter, final List<ApiSummary> keywordResults) {
+        final ApiIndexSnapshot current = snapshot.get();
+        final FilterIndex filterIndex = current.filterIndex();
+
+        final BitSet candidates = filterIndex.all();
+        filterIndex.retainMethods(candidates, filter.methods());
+        filterIndex.retainTags(candidates, filter.tags());
+        filterIndex.retainRequestBody(candidates, filter.hasRequestBody());
+        filterIndex.retainStatusCode(candidates, filter.statusCode());
+        filterIndex.retainParameter(candidates, filter.parameterIn(), filter.parameterName());
+        filterIndex.retainPathPrefix(candidates, filter.pathPrefix());
+
+        if (keywordResults == null) {
+            return candidates.stream()
+                    .mapToObj(current.summaries()::get)
+                    .toList();
+        }
+
+        return keywordResults.stream()
+                .filter(summary -> {
+                    final Integer document = current.documents().get(summary.id());
+                    return document != null && candidates.get(document);
+                })
+                .toList();
+    }
+
+    /**
+     * 인자 자동완성
+     *
+     * @param argument path / tag / operationId / errorCode
+     * @param prefix 입력 중인 값
+     * @param limit 최대 반환 수
+     * @return prefix로 시작하는 값 (사전순)
+     */
+    public CompletionIndex.Completion complete(final String argument, final String prefix, final int limit) {
+        return snapshot.get().completionIndex().complete(argument, prefix, limit);
+    }
+
+    /**
+     * 도구 인자 자동완성 (인자 종류 검증 포함)
+     *
+     * @param argument path / tag / operationId / errorCode
+     * @param prefix 입력 중인 값
+     * @param limit 최대 반환 수
+     * @return prefix로 시작하는 값
+     */
+    public ApiCompletion completeArgument(final String argument, final String prefix, final int limit) {
+        if (!COMPLETION_ARGUMENTS.contains(argument)) {
+            throw new IllegalArgumentException("argument는 " + COMPLETION_ARGUMENTS + " 중 하나여야 합니다: " + argument);
+        }
+
+        final CompletionIndex.Completion completion = complete(argument, prefix, limit);
+        return new ApiCompletion(argument, prefix, completion.values(), completion.total(), completion.hasMore());
+    }
+
+    /**
+     * 실제 method + URL에 해당하는 API 조회
+     *
+     * @param method HTTP method
+     * @param url 실제 URL (예: /users/42/travels/7?page=1)
+     * @return 일치한 API와 path 변수 값 (source마다 하나)
+     */
+    public List<ResolvedApi> resolve(final String method, final String url) {
+        final ApiIndexSnapshot current = snapshot.get();
+        return current.pathTrie().resolve(method, url).stream()
+                .map(resolution -> new ResolvedApi(
+                        current.summaries().get(resolution.document()),
+                        resolution.sourceId(),
+                        resolution.pathVariables()
+                ))
+                .toList();
+    }
+
+    /**
+     * 필드 이름/경로로 API 조회
+     *
+     * @param field 필드 이름 또는 경로 끝부분
+     * @param direction request / response / parameter (null이면 전체)
+     * @return 필드 사용 위치
+     */
+    public List<FieldUsage> findByField(final String field, final String direction) {
+        final ApiIndexSnapshot current = snapshot.get();
+        return current.fieldIndex().find(field, direction).stream()
+                .map(hit -> new FieldUsage(
+                        current.summaries().get(hit.document()),
+                        hit.direction(),
+                        hit.statusCode(),
+                        hit.location(),
+                        hit.path(),
+                        hit.type(),
+                        hit.required()
+                ))
+                .toList();
+    }
+
+    /**
+     * 에러 코드 조회 (완전 일치 → 앞부분 일치 → 중간 일치)
+     *
+     * @param code 전체 또는 부분 에러 코드
+     * @return 중복 제거된 에러와 발생 API
+     */
+    public List<ErrorCodeInfo> findErrorCode(final String code) {
+        final ApiIndexSnapshot current = snapshot.get();
+        return current.errorCatalog().find(code).stream()
+                .map(entry -> new ErrorCodeInfo(
+                        entry.code(),
+                        entry.statusCode(),
+                        entry.message(),
+                        entry.domainCode(),
+                        entry.categoryCode(),
+                        entry.detailCode(),
+                        entry.description(),
+                        entry.documents().stream()
+                                .map(current.summaries()::get)
+                                .toList()
+                ))
+                .toList();
+    }
+
+    /**
+     * DTO를 사용하는 API 조회
+     *
+     * @param dtoName DTO 이름 (정확히 일치하는 DTO가 없으면 부분 일치)
+     * @return 참조 깊이순 사용 위치
+     */
+    public List<DtoUsage> findByDto(final String dtoName) {
+        final ApiIndexSnapshot current = snapshot.get();
+        return current.dtoUsageIndex().find(dtoName).stream()
+                .map(hit -> new DtoUsage(
+                        current.summaries().get(hit.document()),
+                        hit.dtoName(),
+                        hit.direction(),
+                        hit.statusCode(),
+                        hit.depth()
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,233 @@
+package com.ndgl.swaggermcp.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ndgl.swaggermcp.persistence.entity.ApiEndpoint;
+import com.ndgl.swaggermcp.persistence.repository.ApiEndpointRepository;
+import com.ndgl.swaggermcp.sync.support.ContentHashSupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * MCP resource 본문 캐시
+ *
+ * 엔드포인트(swagger://endpoint/{source id}/{METHOD}/{path})와 tag(swagger://tag/{tag})별 JSON 본문을 캐시한다.
+ * 엔드포인트 본문은 getApiDetail 조회가 필요하므로 동기화 스레드에서 만들지 않고 처음 읽을 때 만든다.
+ * 동기화 후에는 섹션 해시가 달라진 엔드포인트의 본문만 비우고, 변경된 URI 목록을 돌려줘 클라이언트에 알릴 수 있게 한다.
+ * source id(ContentHashSupport.sourceId)가 URI에 들어가므로 여러 스펙에 같은 method + path가 있어도 resource가 겹치지 않는다.
+ * API ID는 재동기화해도 유지되지만 resource끼리는 URI로 가리키므로 본문에는 ID 대신 URI를 넣는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiResourceService {
+
+    public static final String ENDPOINT_URI_PREFIX = "swagger://endpoint/";
+    public static final String TAG_URI_PREFIX = "swagger://tag/";
+
+    private final ApiEndpointRepository apiEndpointRepository;
+    private final ApiSearchService apiSearchService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 갱신 시 새 Map을 만들어 통째로 바꾼다 (조회 중에 추가만 되고 삭제는 안 된 중간 상태가 보이지 않도록)
+    private volatile Map<String, CachedResource> cache = new ConcurrentHashMap<>();
+
+    // 갱신 중 DB를 읽으므로 synchronized 대신 ReentrantLock 사용 (virtual thread pinning 방지)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * 캐시된 resource (엔드포인트 본문은 아직 읽지 않았거나 생성에 실패했으면 text가 null이고 조회 때 만든다)
+     */
+    public record CachedResource(
+            String uri,
+            String name,
+            String description,
+            Long apiId,
+            String fingerprint,
+            String text
+    ) {
+
+        private CachedResource withText(final String newText) {
+            return new CachedResource(uri, name, description, apiId, fingerprint, newText);
+        }
+    }
+
+    /**
+     * 캐시 갱신 결과
+     */
+    public record Refresh(
+            List<CachedResource> added,
+            List<String> removed,
+            List<String> updated
+    ) {
+
+        /**
+         * resource 목록 자체가 바뀌었는지 (resources/list_changed 대상)
+         */
+        public boolean listChanged() {
+            return !added.isEmpty() || !removed.isEmpty();
+        }
+    }
+
+    public static String endpointUri(final String sourceId, final String method, final String path) {
+        return ENDPOINT_URI_PREFIX + sourceId + "/" + method.toUpperCase() + "/" + URLEncoder.encode(path, StandardCharsets.UTF_8);
+    }
+
+    public static String tagUri(final String tag) {
+        return TAG_URI_PREFIX + URLEncoder.encode(tag, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * DB 기준으로 캐시 갱신
+     * 섹션 해시(content_hashes)가 같은 엔드포인트는 기존 본문을 그대로 쓰고, 달라졌으면 본문을 비워 다음 조회 때 만든다.
+     *
+     * @return 새로 생긴 / 사라진 / 본문이 바뀐 resource
+     */
+    public Refresh refresh() {
+        refreshLock.lock();
+        try {
+            return doRefresh();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Refresh doRefresh() {
+        final List<ApiEndpoint> endpoints = apiEndpointRepository.findAll();
+        final Map<String, CachedResource> current = cache;
+
+        final Map<String, CachedResource> next = new LinkedHashMap<>();
+        final Map<String, List<Map<String, String>>> endpointsByTag = new TreeMap<>();
+        for (final ApiEndpoint endpoint : endpoints) {
+            final String sourceId = ContentHashSupport.sourceId(endpoint.getSource());
+            final String uri = endpointUri(sourceId, endpoint.getMethod(), endpoint.getPath());
+            final String fingerprint = endpoint.getContentHashes() == null
+                    ? null
+                    : new TreeMap<>(endpoint.getContentHashes()).toString();
+
+            final CachedResource previous = current.get(uri);
+            final String text = previous != null && fingerprint != null && fingerprint.equals(previous.fingerprint())
+                    ? previous.text()
+                    : null;
+            next.put(uri, new CachedResource(
+                    uri,
+                    endpoint.getMethod() + " " + endpoint.getPath(),
+                    endpoint.getSummary(),
+                    endpoint.getId(),
+                    fingerprint,
+                    text
+            ));
+
+            if (endpoint.getTags() != null) {
+                final Map<String, String> entry = new LinkedHashMap<>();
+                entry.put("uri", uri);
+                entry.put("sourceId", sourceId);
+                entry.put("method", endpoint.getMethod());
+                entry.put("path", endpoint.getPath());
+                entry.put("summary", endpoint.getSummary());
+                endpoint.getTags().forEach(tag -> endpointsByTag.computeIfAbsent(tag, ignored -> new ArrayList<>()).add(entry));
+            }
+        }
+
+        endpointsByTag.forEach((tag, tagEndpoints) -> {
+            final String uri = tagUri(tag);
+            final String text = renderTag(tag, tagEndpoints);
+            next.put(uri, new CachedResource(uri, "tag " + tag, tagEndpoints.size() + " endpoints", null, text, text));
+        });
+
+        final List<CachedResource> added = new ArrayList<>();
+        final List<String> updated = new ArrayList<>();
+        next.forEach((uri, resource) -> {
+            final CachedResource previous = current.get(uri);
+            if (previous == null) {
+                added.add(resource);
+            } else if (resource.fingerprint() == null || !resource.fingerprint().equals(previous.fingerprint())) {
+                updated.add(uri);
+            }
+        });
+        final List<String> removed = current.keySet().stream()
+                .filter(uri -> !next.containsKey(uri))
+                .toList();
+
+        cache = new ConcurrentHashMap<>(next);
+
+        log.info("MCP resource 캐시 갱신: 전체 {}, 추가 {}, 삭제 {}, 변경 {}",
+                next.size(), added.size(), removed.size(), updated.size());
+        return new Refresh(added, removed, updated);
+    }
+
+    /**
+     * resource 본문 조회
+     *
+     * @param uri resource URI
+     * @return JSON 본문
+     */
+    public Optional<String> read(final String uri) {
+        final CachedResource resource = cache.get(uri);
+        if (resource == null) {
+            return Optional.empty();
+        }
+
+        if (resource.text() != null) {
+            countRead("hit");
+            return Optional.of(resource.text());
+        }
+
+        countRead("miss");
+        final String text = renderEndpoint(uri, resource.apiId());
+        if (text != null) {
+            // 조회하는 동안 다시 동기화되었으면 이전 본문을 넣지 않는다
+            cache.computeIfPresent(uri, (key, current) -> current.apiId().equals(resource.apiId())
+                    && Objects.equals(current.fingerprint(), resource.fingerprint()) ? current.withText(text) : current);
+        }
+        return Optional.ofNullable(text);
+    }
+
+    private String renderEndpoint(final String uri, final Long apiId) {
+        try {
+            final ObjectNode detail = objectMapper.valueToTree(apiSearchService.getApiDetail(apiId));
+            detail.remove("id");
+            detail.put("uri", uri);
+            return objectMapper.writeValueAsString(detail);
+        } catch (Exception e) {
+            log.warn("MCP resource 본문 생성 실패, 조회 시 다시 시도: {}", uri, e);
+            return null;
+        }
+    }
+
+    private String renderTag(final String tag, final List<Map<String, String>> endpoints) {
+        final Map<String, Object> body = new LinkedHashMap<>();
+        body.put("tag", tag);
+        body.put("endpoints", endpoints);
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("tag resource 직렬화 실패: " + tag, e);
+        }
+    }
+
+    private void countRead(final String result) {
+        Counter.builder("mcp.resource.cache")
+                .description("MCP resource reads served from the precomputed cache")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
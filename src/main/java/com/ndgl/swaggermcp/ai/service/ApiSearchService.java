@@ -6,29 +6,43 @@ import com.ndgl.swaggermcp.persistence.entity.ErrorResponse;
 import com.ndgl.swaggermcp.persistence.entity.Parameter;
 import com.ndgl.swaggermcp.persistence.entity.RequestSchema;
 import com.ndgl.swaggermcp.persistence.entity.ResponseSchema;
+import com.ndgl.swaggermcp.persistence.entity.SpecChangeLog;
 import com.ndgl.swaggermcp.persistence.repository.ApiEndpointRepository;
 import com.ndgl.swaggermcp.persistence.repository.ErrorResponseRepository;
 import com.ndgl.swaggermcp.persistence.repository.ParameterRepository;
 import com.ndgl.swaggermcp.persistence.repository.RequestSchemaRepository;
 import com.ndgl.swaggermcp.persistence.repository.ResponseSchemaRepository;
+import com.ndgl.swaggermcp.persistence.repository.SpecChangeLogRepository;
+import com.ndgl.swaggermcp.ai.dto.ApiChangeLog;
+import com.ndgl.swaggermcp.ai.dto.ApiCompletion;
 import com.ndgl.swaggermcp.ai.dto.ApiDetailForAI;
+import com.ndgl.swaggermcp.ai.dto.ApiSearchFilter;
 import com.ndgl.swaggermcp.ai.dto.ApiSummary;
+import com.ndgl.swaggermcp.ai.dto.DtoUsage;
+import com.ndgl.swaggermcp.ai.dto.ErrorCodeInfo;
 import com.ndgl.swaggermcp.ai.dto.ErrorForAI;
 import com.ndgl.swaggermcp.ai.dto.FieldInfo;
+import com.ndgl.swaggermcp.ai.dto.FieldUsage;
 import com.ndgl.swaggermcp.ai.dto.ParameterInfo;
 import com.ndgl.swaggermcp.ai.dto.RequestForAI;
+import com.ndgl.swaggermcp.ai.dto.ResolvedApi;
 import com.ndgl.swaggermcp.ai.dto.ResponseForAI;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * API 검색 서비스 (MCP Tool용)
+ * 인메모리 인덱스만 읽는 조회는 트랜잭션을 열지 않아 DB 커넥션을 잡지 않는다 (ASYNC 모드에서 event loop에서 바로 실행된다).
+ * 조건 검색에 keyword가 있으면 키워드 검색의 repository 호출이 자체 읽기 트랜잭션으로 실행된다.
  */
 @Slf4j
 @Service
@@ -41,10 +55,13 @@ public class ApiSearchService {
     private final ParameterRepository parameterRepository;
     private final ResponseSchemaRepository responseSchemaRepository;
     private final ErrorResponseRepository errorResponseRepository;
+    private final SpecChangeLogRepository specChangeLogRepository;
     private final SchemaSupporter schemaSupporter;
+    private final ApiIndexService apiIndexService;
 
     /**
      * 키워드로 API 검색
+     * DB 부분 문자열 검색 결과를 먼저 두고, n-gram 인덱스의 오타/부분 일치 결과 중 빠진 것을 점수순으로 덧붙인다.
      *
      * @param keyword 검색 키워드
      * @return API 요약 리스트
@@ -54,20 +71,157 @@ public class ApiSearchService {
 
         final List<ApiEndpoint> endpoints = apiEndpointRepository.searchByKeyword(keyword);
 
-        final List<ApiSummary> results = endpoints.stream()
-            .map(endpoint -> new ApiSummary(
+        final List<ApiSummary> results = new ArrayList<>();
+        final Set<Long> foundIds = new HashSet<>();
+        for (final ApiEndpoint endpoint : endpoints) {
+            foundIds.add(endpoint.getId());
+            results.add(new ApiSummary(
                 endpoint.getId(),
                 endpoint.getPath(),
                 endpoint.getMethod(),
                 endpoint.getSummary(),
                 endpoint.getTags()
-            ))
-            .toList();
+            ));
+        }
+
+        for (final ApiSummary summary : apiIndexService.fuzzySearch(keyword)) {
+            if (foundIds.add(summary.id())) {
+                results.add(summary);
+            }
+        }
+
+        log.info("API 검색 완료: {} 건 발견 (부분 문자열 {} 건)", results.size(), endpoints.size());
+        return results;
+    }
+
+    /**
+     * 구조화 조건으로 API 검색
+     * 키워드가 있으면 키워드 검색 결과(순위 유지)를 조건으로 거르고, 없으면 조건만으로 조회한다.
+     *
+     * @param filter 검색 조건 (method, tag, request body 유무, 상태 코드, 파라미터, path prefix)
+     * @return API 요약 리스트
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ApiSummary> searchApiWithFilters(final ApiSearchFilter filter) {
+        log.info("조건 검색 시작: {}", filter);
+
+        final List<ApiSummary> keywordResults = filter.hasKeyword() ? searchApiByKeyword(filter.keyword()) : null;
+        final List<ApiSummary> results = apiIndexService.filter(filter, keywordResults);
 
-        log.info("API 검색 완료: {} 건 발견", results.size());
+        log.info("조건 검색 완료: {} 건 발견", results.size());
         return results;
     }
 
+    /**
+     * 실제 URL로 API 조회
+     *
+     * @param method HTTP method
+     * @param url 로그 등에서 얻은 실제 URL
+     * @return 일치한 API와 path 변수 값 (여러 스펙에 같은 template이 있으면 source마다 하나)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ResolvedApi> resolveApiByUrl(final String method, final String url) {
+        log.info("URL로 API 조회: {} {}", method, url);
+
+        final List<ResolvedApi> resolved = apiIndexService.resolve(method, url);
+        if (resolved.isEmpty()) {
+            throw new IllegalArgumentException("일치하는 API를 찾을 수 없습니다: " + method + " " + url);
+        }
+        return resolved;
+    }
+
+    /**
+     * 필드 이름으로 API 조회
+     *
+     * @param field 필드 이름 또는 경로 끝부분 (예: travelId, travels[].travelId)
+     * @param direction request / response / parameter (null이면 전체)
+     * @return 필드 사용 위치
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FieldUsage> findApiByField(final String field, final String direction) {
+        log.info("필드로 API 조회: {} ({})", field, direction);
+
+        final List<FieldUsage> usages = apiIndexService.findByField(field, direction);
+
+        log.info("필드로 API 조회 완료: {} 건", usages.size());
+        return usages;
+    }
+
+    /**
+     * 에러 코드로 에러 정보 및 발생 API 조회
+     *
+     * @param code 전체 또는 부분 에러 코드 (예: USR-AUTH-001, USR-AUTH)
+     * @return 중복 제거된 에러와 발생 API
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ErrorCodeInfo> lookupErrorCode(final String code) {
+        log.info("에러 코드 조회: {}", code);
+
+        final List<ErrorCodeInfo> errors = apiIndexService.findErrorCode(code);
+
+        log.info("에러 코드 조회 완료: {} 건", errors.size());
+        return errors;
+    }
+
+    /**
+     * DTO를 사용하는 API 조회
+     *
+     * @param dtoName DTO 이름 (예: UserProfileResponse)
+     * @return 직접/간접 참조 위치
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<DtoUsage> findApiByDto(final String dtoName) {
+        log.info("DTO로 API 조회: {}", dtoName);
+
+        final List<DtoUsage> usages = apiIndexService.findByDto(dtoName);
+
+        log.info("DTO로 API 조회 완료: {} 건", usages.size());
+        return usages;
+    }
+
+    /**
+     * path / tag / operationId / errorCode 자동완성
+     *
+     * @param argument 자동완성할 인자 종류
+     * @param prefix 입력 중인 값 (없으면 사전순 처음부터)
+     * @param limit 최대 반환 수
+     * @return prefix로 시작하는 값
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApiCompletion completeApiArgument(final String argument, final String prefix, final int limit) {
+        return apiIndexService.completeArgument(argument, prefix, limit);
+    }
+
+    /**
+     * 스펙 변경 내역 조회
+     *
+     * @param since 이 시각 이후의 동기화만 (null이면 전체)
+     * @param limit 최대 조회 건수
+     * @return 최신순 변경 내역
+     */
+    public List<ApiChangeLog> getApiChangeLog(final LocalDateTime since, final int limit) {
+        log.info("스펙 변경 내역 조회: since={}, limit={}", since, limit);
+
+        final PageRequest page = PageRequest.of(0, limit);
+        final List<SpecChangeLog> changeLogs = since == null
+            ? specChangeLogRepository.findAllByOrderByIdDesc(page)
+            : specChangeLogRepository.findBySyncedAtAfterOrderByIdDesc(since, page);
+
+        return changeLogs.stream()
+            .map(changeLog -> new ApiChangeLog(
+                changeLog.getId(),
+                changeLog.getSyncedAt(),
+                changeLog.getBackendUrl(),
+                changeLog.getSwaggerVersion(),
+                changeLog.getPreviousSwaggerVersion(),
+                changeLog.getAdded(),
+                changeLog.getRemoved(),
+                changeLog.getModified(),
+                changeLog.getUnchangedCount()
+            ))
+            .toList();
+    }
+
     /**
      * API 상세 정보 조회
      *
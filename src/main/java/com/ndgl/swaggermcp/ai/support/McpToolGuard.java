@@ -0,0 +1,39 @@
+package com.ndgl.swaggermcp.ai.support;
+
+import com.ndgl.swaggermcp.common.concurrency.Bulkheads;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+/**
+ * MCP Tool 호출 진입점
+ * bulkhead 실행 권한을 얻은 뒤 도구 로직을 실행하고, 대기와 거부(outcome=rejected)까지 McpToolMetrics로 기록한다.
+ * 실행 여부는 여기서 정하고 McpToolMetrics는 기록만 한다.
+ * ASYNC 모드에서 인메모리 도구는 event loop(non-blocking 스레드)에서 실행되므로, 그때는 bulkhead 자리를 기다리지 않고 바로 거부한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class McpToolGuard {
+
+    private final Bulkheads bulkheads;
+    private final McpToolMetrics toolMetrics;
+
+    /**
+     * @param tool 도구 이름 (bulkhead / 메트릭 태그)
+     * @param argument 도구 인자 (JFR 이벤트에 기록)
+     * @param call 실제 도구 로직
+     * @return 도구 결과
+     * @throws com.ndgl.swaggermcp.common.concurrency.BulkheadFullException 한도 초과
+     */
+    public <T> T call(final String tool, final Object argument, final Supplier<T> call) {
+        return toolMetrics.record(tool, argument, () -> {
+            try (Bulkheads.Permit ignored = Schedulers.isInNonBlockingThread()
+                    ? bulkheads.enterToolNow(tool)
+                    : bulkheads.enterTool(tool)) {
+                return call.get();
+            }
+        });
+    }
+}
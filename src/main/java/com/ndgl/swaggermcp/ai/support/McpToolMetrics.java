@@ -0,0 +1,180 @@
+package com.ndgl.swaggermcp.ai.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.ndgl.swaggermcp.ai.dto.BudgetedResponse;
+import com.ndgl.swaggermcp.common.concurrency.BulkheadFullException;
+import com.ndgl.swaggermcp.common.jfr.McpToolCallEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * MCP Tool 호출 메트릭 기록기
+ * 도구별 응답 시간(mcp.tool.calls), 결과 건수(mcp.tool.result.count), 응답 크기(mcp.tool.payload.bytes)를 기록하고
+ * 같은 구간을 JFR McpToolCallEvent로도 남긴다.
+ * bulkhead는 McpToolGuard가 적용하고, 여기서는 거부(BulkheadFullException)를 outcome=rejected로 분류만 한다.
+ *
+ * 응답 크기는 다시 직렬화하지 않도록, 예산이 적용된 응답(BudgetedResponse)은 이미 직렬화된 항목 길이를 합산하고
+ * 그 밖의 응답은 mcp.metrics.payload-sample-rate 비율만 직렬화해서 잰다.
+ */
+@Slf4j
+@Component
+public class McpToolMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final double payloadSampleRate;
+
+    public McpToolMetrics(final MeterRegistry meterRegistry,
+                          final ObjectMapper objectMapper,
+                          @Value("${mcp.metrics.payload-sample-rate:0.05}") final double payloadSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.payloadSampleRate = payloadSampleRate;
+    }
+
+    /**
+     * 도구 호출을 감싸서 메트릭 및 JFR 이벤트(McpToolCallEvent) 기록
+     *
+     * @param tool 도구 이름
+     * @param argument 도구 인자 (JFR 이벤트에 기록)
+     * @param call 실제 도구 로직
+     * @return 도구 결과
+     */
+    public <T> T record(final String tool, final Object argument, final Supplier<T> call) {
+        final McpToolCallEvent event = new McpToolCallEvent();
+        event.begin();
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        int resultCount = 0;
+        try {
+            final T result = call.get();
+            resultCount = countItems(result);
+            recordResult(tool, result, resultCount);
+            return result;
+        } catch (BulkheadFullException e) {
+            outcome = "rejected";
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            stop(sample, event, tool, argument, outcome, resultCount);
+        }
+    }
+
+    private void stop(final Timer.Sample sample, final McpToolCallEvent event, final String tool,
+                      final Object argument, final String outcome, final int resultCount) {
+        sample.stop(Timer.builder("mcp.tool.calls")
+                .description("MCP tool call latency")
+                .tag("tool", tool)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        commitEvent(event, tool, argument, outcome, resultCount);
+    }
+
+    private void recordResult(final String tool, final Object result, final int resultCount) {
+        DistributionSummary.builder("mcp.tool.result.count")
+                .description("Number of items returned by an MCP tool call")
+                .tag("tool", tool)
+                .register(meterRegistry)
+                .record(resultCount);
+
+        final long payloadBytes = payloadBytes(result);
+        if (payloadBytes >= 0) {
+            DistributionSummary.builder("mcp.tool.payload.bytes")
+                    .description("Serialized JSON size of an MCP tool result (sampled unless budgeted)")
+                    .baseUnit("bytes")
+                    .tag("tool", tool)
+                    .register(meterRegistry)
+                    .record(payloadBytes);
+        }
+    }
+
+    private void commitEvent(final McpToolCallEvent event, final String tool, final Object argument,
+                             final String outcome, final int resultCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.tool = tool;
+            event.argument = String.valueOf(argument);
+            event.outcome = outcome;
+            event.resultCount = resultCount;
+            event.commit();
+        }
+    }
+
+    private int countItems(final Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof BudgetedResponse budgeted) {
+            return budgeted.items().size();
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        return 1;
+    }
+
+    /**
+     * 응답 크기 (bytes, 이번 호출을 측정하지 않으면 -1)
+     * BudgetedResponse 항목은 예산 계산 때 이미 직렬화된 RawValue이므로 그 길이만 더한다.
+     */
+    private long payloadBytes(final Object result) {
+        if (result instanceof BudgetedResponse budgeted) {
+            long bytes = 0;
+            for (final Object item : budgeted.items()) {
+                bytes += item instanceof RawValue raw
+                        ? String.valueOf(raw.rawValue()).getBytes(StandardCharsets.UTF_8).length
+                        : 0;
+            }
+            return bytes;
+        }
+        if (ThreadLocalRandom.current().nextDouble() >= payloadSampleRate) {
+            return -1;
+        }
+        return measurePayload(result);
+    }
+
+    /**
+     * 결과를 버퍼 없이 직렬화하면서 바이트 수만 센다
+     */
+    private long measurePayload(final Object result) {
+        final CountingOutputStream counter = new CountingOutputStream();
+        try {
+            objectMapper.writeValue(counter, result);
+        } catch (Exception e) {
+            log.debug("MCP Tool 응답 크기 측정 실패", e);
+        }
+        return counter.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+    }
+}
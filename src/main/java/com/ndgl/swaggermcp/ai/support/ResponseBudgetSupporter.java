@@ -0,0 +1,288 @@
+package com.ndgl.swaggermcp.ai.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.ndgl.swaggermcp.ai.dto.ApiDetailForAI;
+import com.ndgl.swaggermcp.ai.dto.BudgetedResponse;
+import com.ndgl.swaggermcp.ai.dto.ContentSection;
+import com.ndgl.swaggermcp.ai.dto.ErrorForAI;
+import com.ndgl.swaggermcp.ai.dto.FieldInfo;
+import com.ndgl.swaggermcp.ai.dto.ParameterInfo;
+import com.ndgl.swaggermcp.ai.dto.RequestForAI;
+import com.ndgl.swaggermcp.ai.dto.ResponseForAI;
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncCompletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * MCP Tool 응답 토큰 예산 적용기
+ *
+ * 결과를 항목(검색 결과 1건, 상세 정보의 필드 1개 등) 단위로 나눈 뒤 앞에서부터 하나씩 직렬화하며 토큰 수를 추정하고,
+ * 예산을 넘는 지점에서 멈춘다. 이후 항목은 직렬화하지 않고 nextCursor로 넘긴다.
+ * 상세 정보의 body 필드가 section-max-tokens보다 크면 ({code, message, data} 래퍼의 data 등) 하위 필드 단위로 다시 나누므로
+ * 큰 DTO 하나가 예산을 넘겨 통째로 반환되지 않는다. 나누는 기준은 예산과 무관하게 고정이라 cursor offset이 바뀌지 않는다.
+ * cursor는 (tool, 대상, offset, 데이터 버전)만 담은 stateless 값이므로 서버에 세션 상태를 남기지 않는다.
+ * 데이터 버전은 동기화가 끝날 때마다 바뀌므로, 동기화 전에 받은 cursor는 결과 순서가 달라졌을 수 있어 거부한다.
+ */
+@Component
+public class ResponseBudgetSupporter {
+
+    private static final String CURSOR_VERSION = "v2";
+
+    private final ObjectMapper objectMapper;
+    private final int defaultMaxTokens;
+    private final int sectionMaxTokens;
+
+    /**
+     * 결과 데이터 버전 (시작 시각으로 시작해 동기화마다 증가하므로 재시작 전 cursor도 거부된다)
+     */
+    private final AtomicLong dataVersion = new AtomicLong(System.currentTimeMillis());
+
+    public ResponseBudgetSupporter(final ObjectMapper objectMapper,
+                                   @Value("${mcp.response.default-max-tokens:4000}") final int defaultMaxTokens,
+                                   @Value("${mcp.response.section-max-tokens:400}") final int sectionMaxTokens) {
+        this.objectMapper = objectMapper;
+        this.defaultMaxTokens = defaultMaxTokens;
+        this.sectionMaxTokens = sectionMaxTokens;
+    }
+
+    @EventListener
+    public void onSwaggerSyncCompleted(final SwaggerSyncCompletedEvent event) {
+        dataVersion.incrementAndGet();
+    }
+
+    /**
+     * 예산이나 cursor가 지정된 경우에만 결과를 잘라서 BudgetedResponse로 감싼다
+     *
+     * @param tool 도구 이름
+     * @param target 조회 대상 (keyword, apiId 등, cursor 검증용)
+     * @param result 전체 결과
+     * @param unitExtractor 결과를 예산 단위 항목으로 나누는 함수
+     * @param maxTokens 최대 토큰 수 (null이면 기본값)
+     * @param cursor 이전 응답의 nextCursor
+     * @return 원본 결과 또는 BudgetedResponse
+     */
+    public <T> Object apply(final String tool, final String target, final T result,
+                            final Function<T, List<?>> unitExtractor,
+                            final Integer maxTokens, final String cursor) {
+        if (maxTokens == null && (cursor == null || cursor.isBlank())) {
+            return result;
+        }
+
+        final long version = dataVersion.get();
+        final int offset = decodeCursor(tool, target, version, cursor);
+        final int budget = maxTokens != null && maxTokens > 0 ? maxTokens : defaultMaxTokens;
+        final List<?> units = unitExtractor.apply(result);
+        if (offset > units.size()) {
+            throw new IllegalArgumentException("cursor가 결과 범위를 벗어났습니다. 처음부터 다시 조회하세요.");
+        }
+
+        final List<Object> items = new ArrayList<>();
+        int usedTokens = 0;
+        int index = offset;
+        while (index < units.size()) {
+            final String json = serialize(units.get(index));
+            final int tokens = estimateTokens(json);
+
+            // 최소 1개는 반환해야 진행이 보장된다
+            if (!items.isEmpty() && usedTokens + tokens > budget) {
+                break;
+            }
+
+            items.add(new RawValue(json));
+            usedTokens += tokens;
+            index++;
+        }
+
+        final boolean truncated = index < units.size();
+        return new BudgetedResponse(
+                items,
+                offset,
+                units.size(),
+                usedTokens,
+                truncated,
+                truncated ? encodeCursor(tool, target, version, index) : null
+        );
+    }
+
+    /**
+     * API 상세 정보를 개요 / 요청 / 응답 / 에러 조각으로 분리
+     */
+    public List<ContentSection> detailSections(final ApiDetailForAI detail) {
+        final Map<String, Object> overview = new LinkedHashMap<>();
+        overview.put("id", detail.id());
+        overview.put("path", detail.path());
+        overview.put("method", detail.method());
+        overview.put("operationId", detail.operationId());
+        overview.put("summary", detail.summary());
+        overview.put("description", detail.description());
+        overview.put("tags", detail.tags());
+
+        final List<ContentSection> sections = new ArrayList<>();
+        sections.add(new ContentSection("api", null, overview));
+        sections.addAll(requestSections(detail.request()));
+        sections.addAll(responseSections(detail.responses()));
+        sections.addAll(errorSections(detail.errors()));
+        return sections;
+    }
+
+    /**
+     * Request 정보를 파라미터 / body 필드 단위로 분리
+     */
+    public List<ContentSection> requestSections(final RequestForAI request) {
+        final List<ContentSection> sections = new ArrayList<>();
+        if (request == null) {
+            return sections;
+        }
+
+        for (final ParameterInfo parameter : request.parameters()) {
+            sections.add(new ContentSection("request.parameter", parameter.name(), parameter));
+        }
+        addFieldSections(sections, "request.body", request.body());
+        return sections;
+    }
+
+    /**
+     * Response 정보를 상태 코드 헤더 / body 필드 단위로 분리
+     */
+    public List<ContentSection> responseSections(final Map<Integer, ResponseForAI> responses) {
+        final List<ContentSection> sections = new ArrayList<>();
+        if (responses == null) {
+            return sections;
+        }
+
+        responses.forEach((statusCode, response) -> {
+            final Map<String, Object> header = new LinkedHashMap<>();
+            header.put("statusCode", response.statusCode());
+            header.put("description", response.description());
+            sections.add(new ContentSection("response", String.valueOf(statusCode), header));
+            addFieldSections(sections, "response." + statusCode + ".body", response.body());
+        });
+        return sections;
+    }
+
+    /**
+     * Error 정보를 상태 코드 헤더 / schema 필드 단위로 분리
+     */
+    public List<ContentSection> errorSections(final Map<Integer, ErrorForAI> errors) {
+        final List<ContentSection> sections = new ArrayList<>();
+        if (errors == null) {
+            return sections;
+        }
+
+        errors.forEach((statusCode, error) -> {
+            final Map<String, Object> header = new LinkedHashMap<>();
+            header.put("statusCode", error.statusCode());
+            header.put("code", error.code());
+            header.put("message", error.message());
+            header.put("description", error.description());
+            header.put("errors", error.errors());
+            sections.add(new ContentSection("error", String.valueOf(statusCode), header));
+            addFieldSections(sections, "error." + statusCode + ".schema", error.schema());
+        });
+        return sections;
+    }
+
+    /**
+     * 토큰 수 추정
+     * 영문/기호는 약 4글자당 1토큰, 한글 등 비 ASCII 문자는 글자당 1토큰으로 본다.
+     */
+    public int estimateTokens(final CharSequence text) {
+        int asciiChars = 0;
+        int otherChars = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                asciiChars++;
+            } else {
+                otherChars++;
+            }
+        }
+        return (asciiChars + 3) / 4 + otherChars;
+    }
+
+    private void addFieldSections(final List<ContentSection> sections, final String section,
+                                  final Map<String, FieldInfo> fields) {
+        if (fields == null) {
+            return;
+        }
+        fields.forEach((name, field) -> addFieldSection(sections, section, name, field));
+    }
+
+    /**
+     * 필드 1개를 조각으로 추가
+     * section-max-tokens보다 크고 하위 구조가 있으면 하위 구조를 뺀 필드 자체를 먼저 넣고,
+     * properties는 "{section}.{name}" 아래에, 배열 items는 같은 section의 "{name}[]"로 재귀적으로 나눈다.
+     * (예: response.200.body / data → response.200.body.data / items → response.200.body.data / items[]
+     *  → response.200.body.data.items[] / id)
+     */
+    private void addFieldSection(final List<ContentSection> sections, final String section, final String name,
+                                 final FieldInfo field) {
+        final boolean nested = field != null && (field.properties() != null || field.items() != null);
+        if (!nested || estimateTokens(serialize(field)) <= sectionMaxTokens) {
+            sections.add(new ContentSection(section, name, field));
+            return;
+        }
+
+        sections.add(new ContentSection(section, name, new FieldInfo(
+                field.type(), field.format(), field.required(), field.description(), field.example(), null, null)));
+        addFieldSections(sections, section + "." + name, field.properties());
+        if (field.items() != null) {
+            addFieldSection(sections, section, name + "[]", field.items());
+        }
+    }
+
+    private String serialize(final Object unit) {
+        try {
+            return objectMapper.writeValueAsString(unit);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private String encodeCursor(final String tool, final String target, final long version, final int offset) {
+        final String raw = CURSOR_VERSION + ":" + offset + ":" + version + ":" + tool + ":" + target;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * cursor를 offset으로 변환 (다른 도구/대상의 cursor, 음수 offset, 동기화 전 cursor는 거부)
+     */
+    private int decodeCursor(final String tool, final String target, final long version, final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+
+        final String[] parts;
+        final int offset;
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split(":", 5);
+            if (parts.length != 5 || !CURSOR_VERSION.equals(parts[0])
+                    || !tool.equals(parts[3]) || !target.equals(parts[4])) {
+                throw new IllegalArgumentException("유효하지 않은 cursor입니다: " + cursor);
+            }
+            offset = Integer.parseInt(parts[1]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 cursor입니다: " + cursor);
+        }
+
+        if (offset < 0) {
+            throw new IllegalArgumentException("유효하지 않은 cursor입니다: " + cursor);
+        }
+        if (!String.valueOf(version).equals(parts[2])) {
+            throw new IllegalArgumentException("cursor 발급 이후 스펙이 다시 동기화되었습니다. 처음부터 다시 조회하세요.");
+        }
+        return offset;
+    }
+}
@@ -24,7 +24,7 @@ public class SchemaSupporter {
 
     /**
      * Schema JSON을 AI 친화적 포맷으로 변환
-     * DB에 저장된 스키마는 enrichSchemaWithRequired()를 통해
+     * DB에 저장된 스키마는 transformSchema()를 거치면서
      * 모든 깊이의 필드에 required 플래그가 이미 인라인된 상태다.
      *
      * @param schemaJson Schema JSON (Map 또는 String)
@@ -78,7 +78,7 @@ public class SchemaSupporter {
 
     /**
      * FieldInfo 생성 (중첩 object/array 재귀 처리)
-     * required 값은 enrichSchemaWithRequired()에서 이미 각 필드에 인라인되어 있으므로
+     * required 값은 transformSchema()에서 이미 각 필드에 인라인되어 있으므로
      * fieldSchema에서 직접 읽는다.
      */
     private FieldInfo createFieldInfo(final Map<String, Object> fieldSchema, final Object example) {
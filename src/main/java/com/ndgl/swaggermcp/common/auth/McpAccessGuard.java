@@ -0,0 +1,152 @@
+package com.ndgl.swaggermcp.common.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MCP 접근 검사 (토큰 인증 + 토큰별 요청 속도 제한)
+ *
+ * 토큰은 SHA-256 해시로만 보관한다. 요청 토큰의 해시로 HashMap에서 O(1)로 후보를 찾은 뒤
+ * MessageDigest.isEqual로 한 번 더 상수 시간 비교한다. 해시 조회의 시간 차이로는 원래 토큰을 알아낼 수 없다.
+ * 클라이언트(토큰)마다 TokenBucket을 따로 두어 한 클라이언트의 폭주가 다른 클라이언트와 DB 커넥션 풀에 번지지 않게 한다.
+ *
+ * servlet / reactive 필터 어느 쪽에서도 쓸 수 있도록 헤더 값만 받는다.
+ */
+@Slf4j
+@Component
+public class McpAccessGuard {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String DEFAULT_CLIENT = "default";
+
+    /**
+     * 토큰이 필요한 경로 (/mcp와, 동기화 source·클라이언트 이름 등 내부 정보가 태그로 드러나는 메트릭 엔드포인트)
+     */
+    private static final List<String> PROTECTED_PATHS = List.of("/mcp", "/actuator/metrics", "/actuator/prometheus");
+
+    private final Map<String, Client> clientsByHash;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 검사 결과
+     *
+     * @param status 200(허용) / 401 / 403 / 429
+     * @param client 인증된 클라이언트 이름 (인증 실패 시 null)
+     * @param retryAfterSeconds 429일 때 재시도까지 대기 시간
+     */
+    public record Decision(int status, String client, long retryAfterSeconds) {
+
+        public boolean allowed() {
+            return status == 200;
+        }
+    }
+
+    private record Client(String name, byte[] hash, TokenBucket bucket) {
+    }
+
+    /**
+     * 토큰 검사 대상 경로인지 (health / info 등 나머지 actuator와 동기화 API는 대상이 아니다)
+     * segment 단위로 비교하므로 /actuator/metrics/{name}은 대상이고 /mcpfoo는 대상이 아니다.
+     */
+    public static boolean isProtected(final String path) {
+        return PROTECTED_PATHS.stream()
+                .anyMatch(protectedPath -> path.equals(protectedPath) || path.startsWith(protectedPath + "/"));
+    }
+
+    /**
+     * @param plainToken 단일 토큰 (평문, 하위 호환용, "default" 클라이언트)
+     * @param tokenHashes "이름:SHA-256 hex" 목록 (쉼표 구분)
+     * @param ratePerSecond 토큰별 초당 허용 요청 수
+     * @param burst 토큰별 순간 최대 요청 수
+     */
+    public McpAccessGuard(@Value("${mcp.auth.token:}") final String plainToken,
+                          @Value("${mcp.auth.token-hashes:}") final String tokenHashes,
+                          @Value("${mcp.auth.rate-limit.requests-per-second:20}") final double ratePerSecond,
+                          @Value("${mcp.auth.rate-limit.burst:40}") final int burst,
+                          final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.clientsByHash = new HashMap<>();
+
+        final long now = System.nanoTime();
+        if (plainToken != null && !plainToken.isBlank()) {
+            register(DEFAULT_CLIENT, sha256(plainToken), ratePerSecond, burst, now);
+        }
+        for (final String entry : tokenHashes.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            final int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("mcp.auth.token-hashes 항목은 '이름:SHA-256 hex' 형식이어야 합니다: " + entry);
+            }
+            register(entry.substring(0, separator).trim(),
+                    HexFormat.of().parseHex(entry.substring(separator + 1).trim().toLowerCase()),
+                    ratePerSecond, burst, now);
+        }
+
+        if (clientsByHash.isEmpty()) {
+            log.warn("MCP 접근 토큰이 설정되지 않아 모든 /mcp 요청이 거부됩니다");
+        }
+        log.info("MCP 접근 토큰 {}개 등록 (토큰별 초당 {}건, burst {})", clientsByHash.size(), ratePerSecond, burst);
+    }
+
+    /**
+     * Authorization 헤더 검사 후 토큰 bucket에서 1건 차감
+     *
+     * @param authorizationHeader Authorization 헤더 값
+     * @return 검사 결과
+     */
+    public Decision check(final String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            reject("missing_token", null);
+            return new Decision(401, null, 0);
+        }
+
+        final byte[] hash = sha256(authorizationHeader.substring(BEARER_PREFIX.length()));
+        final Client client = clientsByHash.get(HexFormat.of().formatHex(hash));
+        if (client == null || !MessageDigest.isEqual(client.hash(), hash)) {
+            reject("invalid_token", null);
+            return new Decision(403, null, 0);
+        }
+
+        final long waitNanos = client.bucket().tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            reject("rate_limited", client.name());
+            return new Decision(429, client.name(), Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+
+        return new Decision(200, client.name(), 0);
+    }
+
+    private void register(final String name, final byte[] hash, final double ratePerSecond, final int burst,
+                          final long now) {
+        if (hash.length != 32) {
+            throw new IllegalArgumentException("SHA-256 해시는 32바이트여야 합니다: " + name);
+        }
+        clientsByHash.put(HexFormat.of().formatHex(hash), new Client(name, hash, new TokenBucket(ratePerSecond, burst, now)));
+    }
+
+    private void reject(final String reason, final String client) {
+        meterRegistry.counter("mcp.auth.rejected", "reason", reason, "client", client == null ? "unknown" : client)
+                .increment();
+    }
+
+    private static byte[] sha256(final String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
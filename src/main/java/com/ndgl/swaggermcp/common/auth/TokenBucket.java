@@ -0,0 +1,51 @@
+package com.ndgl.swaggermcp.common.auth;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free token bucket (GCRA)
+ *
+ * 남은 토큰 수 대신 "다음 요청이 허용되는 이론상 도착 시각(TAT)" 하나만 AtomicLong에 두고 CAS로 갱신한다.
+ * 요청 1건마다 TAT가 emission interval만큼 늘어나고, TAT가 현재 시각보다 burst 허용치 이상 앞서 있으면 거부한다.
+ * 초당 rate개씩 채워지고 최대 burst개까지 쌓이는 token bucket과 같은 동작이다.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * @param ratePerSecond 초당 허용 요청 수
+     * @param burst 한 번에 허용할 최대 요청 수
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     */
+    public TokenBucket(final double ratePerSecond, final int burst, final long nowNanos) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate는 0보다, burst는 1 이상이어야 합니다");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return 허용되면 0, 거부되면 다음 토큰까지 남은 시간(ns)
+     */
+    public long tryAcquire(final long nowNanos) {
+        while (true) {
+            final long current = theoreticalArrivalNanos.get();
+            final long base = Math.max(current, nowNanos);
+            final long waitNanos = base - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
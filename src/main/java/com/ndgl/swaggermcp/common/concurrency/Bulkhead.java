@@ -0,0 +1,82 @@
+package com.ndgl.swaggermcp.common.concurrency;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 실행 수 제한 (세마포어 + 대기열 상한)
+ *
+ * 동시 실행이 maxConcurrent에 차면 최대 maxWaiting개까지만 maxWaitMillis 동안 기다리고, 나머지는 바로 거부한다.
+ * 대기열에 상한이 있으므로 과부하 때 요청이 쌓여 지연이 끝없이 늘어나지 않는다.
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public Bulkhead(final String name, final int maxConcurrent, final int maxWaiting, final long maxWaitMillis) {
+        if (maxConcurrent < 1 || maxWaiting < 0 || maxWaitMillis < 0) {
+            throw new IllegalArgumentException("잘못된 bulkhead 설정: " + name);
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * 실행 권한 획득 시도
+     *
+     * @return 획득하면 true (반드시 release 호출), 대기열이 찼거나 대기 시간을 넘기면 false
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            return false;
+        }
+
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * 기다리지 않고 실행 권한 획득 시도 (동기화처럼 바로 거부하는 bulkhead나 event loop 스레드용)
+     *
+     * @return 획득하면 true (반드시 release 호출)
+     */
+    public boolean tryAcquireNow() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int waiting() {
+        return waiting.get();
+    }
+}
@@ -0,0 +1,16 @@
+package com.ndgl.swaggermcp.common.concurrency;
+
+/**
+ * bulkhead 동시 실행 한도 초과로 요청을 거부할 때 발생
+ */
+public class BulkheadFullException extends IllegalStateException {
+
+    /**
+     * 거부 메시지 앞부분 (도구 오류 응답에서 거부를 구분할 때 사용)
+     */
+    public static final String MESSAGE_PREFIX = "요청이 많아 처리할 수 없습니다";
+
+    public BulkheadFullException(final String bulkhead) {
+        super(MESSAGE_PREFIX + ". 잠시 후 다시 시도하세요 (" + bulkhead + ")");
+    }
+}
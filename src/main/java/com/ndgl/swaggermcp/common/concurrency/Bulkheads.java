@@ -0,0 +1,156 @@
+package com.ndgl.swaggermcp.common.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업 종류별 bulkhead 모음
+ *
+ * MCP 도구 호출은 전체 한도(interactive)와 도구별 한도를 모두 통과해야 하고, 동기화(sync)는 따로 한도를 둔다.
+ * interactive + sync 한도 합을 DB 커넥션 풀 크기 이하로 두면 도구 호출 폭주와 동기화가 서로의 커넥션을 빼앗지 못한다.
+ */
+@Slf4j
+@Component
+public class Bulkheads {
+
+    public static final String INTERACTIVE = "interactive";
+    public static final String SYNC = "sync";
+
+    private final MeterRegistry meterRegistry;
+    private final Bulkhead interactive;
+    private final Bulkhead sync;
+    private final Map<String, Integer> toolLimits;
+    private final int defaultToolLimit;
+    private final int maxWaiting;
+    private final long maxWaitMillis;
+    private final Map<String, Bulkhead> tools = new ConcurrentHashMap<>();
+
+    /**
+     * 획득한 실행 권한 (try-with-resources로 반납)
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * @param interactiveLimit 전체 MCP 도구 동시 실행 수
+     * @param syncLimit 동시 동기화 수
+     * @param defaultToolLimit 도구별 기본 동시 실행 수
+     * @param toolLimits 도구별 동시 실행 수 ("도구이름=수" 쉼표 구분)
+     * @param maxWaiting bulkhead별 최대 대기 요청 수
+     * @param maxWaitMillis 최대 대기 시간
+     */
+    public Bulkheads(@Value("${mcp.bulkhead.interactive.max-concurrent:8}") final int interactiveLimit,
+                     @Value("${mcp.bulkhead.sync.max-concurrent:1}") final int syncLimit,
+                     @Value("${mcp.bulkhead.tool.max-concurrent:4}") final int defaultToolLimit,
+                     @Value("${mcp.bulkhead.tool.limits:}") final String toolLimits,
+                     @Value("${mcp.bulkhead.max-waiting:16}") final int maxWaiting,
+                     @Value("${mcp.bulkhead.max-wait-millis:200}") final long maxWaitMillis,
+                     final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.defaultToolLimit = defaultToolLimit;
+        this.maxWaiting = maxWaiting;
+        this.maxWaitMillis = maxWaitMillis;
+        this.toolLimits = parseLimits(toolLimits);
+        this.interactive = register(new Bulkhead(INTERACTIVE, interactiveLimit, maxWaiting, maxWaitMillis));
+        // 동기화는 대기 없이 바로 거부 (이미 진행 중인 동기화가 곧 최신 상태를 만든다)
+        this.sync = register(new Bulkhead(SYNC, syncLimit, 0, 0));
+    }
+
+    /**
+     * MCP 도구 실행 권한 획득 (도구 → 전체 순, 반납은 역순)
+     * 도구 권한을 먼저 얻으므로 한 도구에 몰린 요청은 도구 한도에서 기다리고 전체(interactive) 자리를 차지하지 않는다.
+     *
+     * @throws BulkheadFullException 한도 초과
+     */
+    public Permit enterTool(final String tool) {
+        return enterTool(tool, true);
+    }
+
+    /**
+     * 기다리지 않고 MCP 도구 실행 권한 획득 (event loop 등 블로킹하면 안 되는 스레드용)
+     *
+     * @throws BulkheadFullException 한도 초과
+     */
+    public Permit enterToolNow(final String tool) {
+        return enterTool(tool, false);
+    }
+
+    private Permit enterTool(final String tool, final boolean wait) {
+        final Bulkhead toolBulkhead = tools.computeIfAbsent(tool,
+                name -> register(new Bulkhead("tool:" + name, toolLimits.getOrDefault(name, defaultToolLimit),
+                        maxWaiting, maxWaitMillis)));
+
+        final Permit toolPermit = enter(toolBulkhead, wait);
+        try {
+            final Permit interactivePermit = enter(interactive, wait);
+            return () -> {
+                interactivePermit.close();
+                toolPermit.close();
+            };
+        } catch (BulkheadFullException e) {
+            toolPermit.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 동기화 실행 권한 획득
+     *
+     * @throws BulkheadFullException 이미 한도만큼 동기화가 진행 중
+     */
+    public Permit enterSync() {
+        return enter(sync, false);
+    }
+
+    private Permit enter(final Bulkhead bulkhead, final boolean wait) {
+        if (!(wait ? bulkhead.tryAcquire() : bulkhead.tryAcquireNow())) {
+            Counter.builder("bulkhead.rejected")
+                    .description("Calls rejected because a bulkhead was full")
+                    .tag("bulkhead", bulkhead.name())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("bulkhead 한도 초과로 거부: {} (실행 {}, 대기 {})", bulkhead.name(), bulkhead.active(), bulkhead.waiting());
+            throw new BulkheadFullException(bulkhead.name());
+        }
+        return bulkhead::release;
+    }
+
+    private Bulkhead register(final Bulkhead bulkhead) {
+        Gauge.builder("bulkhead.active", bulkhead, Bulkhead::active)
+                .description("Calls currently running inside a bulkhead")
+                .tag("bulkhead", bulkhead.name())
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.waiting", bulkhead, Bulkhead::waiting)
+                .description("Calls waiting for a bulkhead permit")
+                .tag("bulkhead", bulkhead.name())
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private static Map<String, Integer> parseLimits(final String limits) {
+        final Map<String, Integer> parsed = new HashMap<>();
+        for (final String entry : limits.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            final int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("mcp.bulkhead.tool.limits 항목은 '도구이름=수' 형식이어야 합니다: " + entry);
+            }
+            parsed.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+        }
+        return parsed;
+    }
+}
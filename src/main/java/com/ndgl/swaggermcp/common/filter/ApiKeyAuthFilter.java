@@ -1,11 +1,13 @@
 package com.ndgl.swaggermcp.common.filter;
 
+import com.ndgl.swaggermcp.common.auth.McpAccessGuard;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
@@ -16,21 +18,15 @@ import java.io.IOException;
 @Slf4j
 @Component
 @Order(1)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
 public class ApiKeyAuthFilter extends OncePerRequestFilter {
 
-    private static final String BEARER_PREFIX = "Bearer ";
-    private static final String MCP_ENDPOINT = "/mcp";
-
-    private final String validToken;
-
-    public ApiKeyAuthFilter(@Value("${mcp.auth.token}") final String validToken) {
-        this.validToken = validToken;
-    }
+    private final McpAccessGuard accessGuard;
 
     @Override
     protected boolean shouldNotFilter(final HttpServletRequest request) {
-        // /mcp 경로에만 필터 적용
-        return !request.getRequestURI().startsWith(MCP_ENDPOINT);
+        return !McpAccessGuard.isProtected(request.getRequestURI());
     }
 
     @Override
@@ -39,26 +35,29 @@ public class ApiKeyAuthFilter extends OncePerRequestFilter {
             final HttpServletResponse response,
             final FilterChain filterChain
     ) throws ServletException, IOException {
-        final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
-
-        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
-            log.warn("MCP 접근 거부 - Authorization 헤더 없음: {}", request.getRequestURI());
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
-            response.getWriter().write("{\"error\": \"인증 토큰이 필요합니다\"}");
-            return;
-        }
-
-        final String token = authHeader.substring(BEARER_PREFIX.length());
-
-        if (!validToken.equals(token)) {
-            log.warn("MCP 접근 거부 - 유효하지 않은 토큰: {}", request.getRequestURI());
-            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-            response.setContentType("application/json;charset=UTF-8");
-            response.getWriter().write("{\"error\": \"유효하지 않은 토큰입니다\"}");
-            return;
+        final McpAccessGuard.Decision decision = accessGuard.check(request.getHeader(HttpHeaders.AUTHORIZATION));
+
+        switch (decision.status()) {
+            case HttpServletResponse.SC_UNAUTHORIZED -> {
+                log.warn("MCP 접근 거부 - Authorization 헤더 없음: {}", request.getRequestURI());
+                writeError(response, decision.status(), "인증 토큰이 필요합니다");
+            }
+            case HttpServletResponse.SC_FORBIDDEN -> {
+                log.warn("MCP 접근 거부 - 유효하지 않은 토큰: {}", request.getRequestURI());
+                writeError(response, decision.status(), "유효하지 않은 토큰입니다");
+            }
+            case 429 -> {
+                log.warn("MCP 접근 제한 - 요청 한도 초과: {} ({})", decision.client(), request.getRequestURI());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+                writeError(response, decision.status(), "요청이 너무 많습니다. 잠시 후 다시 시도하세요");
+            }
+            default -> filterChain.doFilter(request, response);
         }
+    }
 
-        filterChain.doFilter(request, response);
+    private void writeError(final HttpServletResponse response, final int status, final String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"error\": \"" + message + "\"}");
     }
 }
@@ -0,0 +1,70 @@
+package com.ndgl.swaggermcp.common.filter;
+
+import com.ndgl.swaggermcp.common.auth.McpAccessGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ApiKeyAuthFilter의 WebFlux 버전 (async 프로파일)
+ * 토큰 검사와 요청 한도는 같은 McpAccessGuard를 쓰며, 해시 조회와 GCRA 계산뿐이라 event loop에서 바로 처리한다.
+ */
+@Slf4j
+@Component
+@Order(1)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveApiKeyAuthFilter implements WebFilter {
+
+    private final McpAccessGuard accessGuard;
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        final String uri = exchange.getRequest().getPath().value();
+        if (!McpAccessGuard.isProtected(uri)) {
+            return chain.filter(exchange);
+        }
+
+        final McpAccessGuard.Decision decision =
+                accessGuard.check(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        final ServerHttpResponse response = exchange.getResponse();
+
+        return switch (decision.status()) {
+            case 401 -> {
+                log.warn("MCP 접근 거부 - Authorization 헤더 없음: {}", uri);
+                yield writeError(response, HttpStatus.UNAUTHORIZED, "인증 토큰이 필요합니다");
+            }
+            case 403 -> {
+                log.warn("MCP 접근 거부 - 유효하지 않은 토큰: {}", uri);
+                yield writeError(response, HttpStatus.FORBIDDEN, "유효하지 않은 토큰입니다");
+            }
+            case 429 -> {
+                log.warn("MCP 접근 제한 - 요청 한도 초과: {} ({})", decision.client(), uri);
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+                yield writeError(response, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도하세요");
+            }
+            default -> chain.filter(exchange);
+        };
+    }
+
+    private Mono<Void> writeError(final ServerHttpResponse response, final HttpStatus status, final String message) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8));
+        final DataBuffer body = response.bufferFactory()
+                .wrap(("{\"error\": \"" + message + "\"}").getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
@@ -0,0 +1,31 @@
+package com.ndgl.swaggermcp.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * MCP Tool 호출 JFR 이벤트 (SwaggerMcpTools)
+ */
+@Name("com.ndgl.swaggermcp.McpToolCall")
+@Label("MCP Tool Call")
+@Category({"Swagger MCP", "MCP"})
+@Description("One MCP tool invocation")
+@StackTrace(false)
+public class McpToolCallEvent extends Event {
+
+    @Label("Tool")
+    public String tool;
+
+    @Label("Argument")
+    public String argument;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Result Count")
+    public int resultCount;
+}
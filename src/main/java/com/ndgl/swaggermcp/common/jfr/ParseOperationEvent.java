@@ -0,0 +1,25 @@
+package com.ndgl.swaggermcp.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * operation 1개 파싱 JFR 이벤트 (SwaggerParserService.parseOperation)
+ */
+@Name("com.ndgl.swaggermcp.ParseOperation")
+@Label("Parse Operation")
+@Category({"Swagger MCP", "Sync"})
+@Description("Parsing of a single Swagger operation including $ref resolution")
+@StackTrace(false)
+public class ParseOperationEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+}
@@ -0,0 +1,33 @@
+package com.ndgl.swaggermcp.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * $ref 1건 해석 JFR 이벤트 (JsonSchemaParsingSupport.transformSchema)
+ * 건수가 많으므로 기본 비활성화. 필요할 때 com.ndgl.swaggermcp.RefResolve#enabled=true 로 켠다.
+ */
+@Name("com.ndgl.swaggermcp.RefResolve")
+@Label("Resolve $ref")
+@Category({"Swagger MCP", "Sync"})
+@Description("Expansion of one $ref, including its nested refs")
+@Enabled(false)
+@StackTrace(false)
+public class RefResolveEvent extends Event {
+
+    @Label("Ref")
+    public String ref;
+
+    @Label("Depth")
+    @Description("Number of $refs already on the expansion path")
+    public int depth;
+
+    @Label("Outcome")
+    @Description("resolved, circular, unresolved or truncated")
+    public String outcome;
+}
@@ -0,0 +1,36 @@
+package com.ndgl.swaggermcp.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Swagger 동기화 1회 JFR 이벤트 (SyncSwaggerUseCase)
+ */
+@Name("com.ndgl.swaggermcp.SwaggerSync")
+@Label("Swagger Sync")
+@Category({"Swagger MCP", "Sync"})
+@Description("Fetch, parse and persist of one Swagger document")
+@StackTrace(false)
+public class SwaggerSyncEvent extends Event {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Endpoints")
+    public int endpoints;
+
+    @Label("Document Size")
+    @DataAmount
+    public long documentBytes;
+
+    @Label("$ref Expansions")
+    public int refExpansions;
+}
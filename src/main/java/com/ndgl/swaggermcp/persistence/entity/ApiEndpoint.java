@@ -4,26 +4,35 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.util.List;
+import java.util.Map;
 
 @Entity
-@Table(name = "api_endpoints")
+@Table(name = "api_endpoints",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"source", "operation_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class ApiEndpoint extends BaseEntity {
+public class ApiEndpoint extends BaseEntity implements Persistable<Long> {
 
+    /**
+     * source + method + path로 정해지는 ID (ContentHashSupport.endpointId)
+     * 재동기화해도 바뀌지 않는다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(length = 255)
+    private String source;
+
     @Column(nullable = false, length = 255)
     private String path;
 
     @Column(nullable = false, length = 10)
     private String method;
 
-    @Column(unique = true, length = 255)
+    @Column(length = 255)
     private String operationId;
 
     @Column(columnDefinition = "TEXT")
@@ -36,15 +45,45 @@ public class ApiEndpoint extends BaseEntity {
     @Column(columnDefinition = "JSON", nullable = true)
     private List<String> tags;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "JSON", nullable = true)
+    private List<Integer> statusCodes;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "JSON", nullable = true)
+    private Map<String, String> contentHashes;
+
+    /**
+     * ID를 직접 지정하므로 save()가 merge(SELECT) 대신 persist하도록 저장 여부를 따로 추적
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
     @Builder
-    public ApiEndpoint(final Long id, final String path, final String method, final String operationId,
-                       final String summary, final String description, final List<String> tags) {
+    public ApiEndpoint(final Long id, final String source, final String path, final String method, final String operationId,
+                       final String summary, final String description, final List<String> tags,
+                       final List<Integer> statusCodes, final Map<String, String> contentHashes) {
         this.id = id;
+        this.source = source;
         this.path = path;
         this.method = method;
         this.operationId = operationId;
         this.summary = summary;
         this.description = description;
         this.tags = tags;
+        this.statusCodes = statusCodes;
+        this.contentHashes = contentHashes;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
     }
 }
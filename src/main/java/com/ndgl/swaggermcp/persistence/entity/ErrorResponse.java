@@ -52,12 +52,16 @@ public class ErrorResponse {
     @Column(name = "errors", columnDefinition = "JSON")
     private List<Map<String, Object>> errors;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "referenced_dtos", columnDefinition = "JSON")
+    private Map<String, Integer> referencedDtos;
+
     @Builder
     public ErrorResponse(final Long id, final Long apiEndpointId, final Integer statusCode,
                          final String code, final String message,
                          final String domainCode, final String categoryCode, final String detailCode,
                          final String description, final Map<String, Object> schemaJson,
-                         final List<Map<String, Object>> errors) {
+                         final List<Map<String, Object>> errors, final Map<String, Integer> referencedDtos) {
         this.id = id;
         this.apiEndpointId = apiEndpointId;
         this.statusCode = statusCode;
@@ -69,5 +73,6 @@ public class ErrorResponse {
         this.description = description;
         this.schemaJson = schemaJson;
         this.errors = errors;
+        this.referencedDtos = referencedDtos;
     }
 }
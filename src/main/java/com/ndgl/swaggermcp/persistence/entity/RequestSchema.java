@@ -31,13 +31,19 @@ public class RequestSchema {
     @Column(name = "example_json", columnDefinition = "JSON")
     private Map<String, Object> exampleJson;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "referenced_dtos", columnDefinition = "JSON")
+    private Map<String, Integer> referencedDtos;
+
     @Builder
     public RequestSchema(final Long id, final Long apiEndpointId, final String dtoName,
-                         final Map<String, Object> schemaJson, final Map<String, Object> exampleJson) {
+                         final Map<String, Object> schemaJson, final Map<String, Object> exampleJson,
+                         final Map<String, Integer> referencedDtos) {
         this.id = id;
         this.apiEndpointId = apiEndpointId;
         this.dtoName = dtoName;
         this.schemaJson = schemaJson;
         this.exampleJson = exampleJson;
+        this.referencedDtos = referencedDtos;
     }
 }
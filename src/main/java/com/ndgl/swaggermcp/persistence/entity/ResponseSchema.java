@@ -34,15 +34,20 @@ public class ResponseSchema {
     @Column(name = "example_json", columnDefinition = "JSON")
     private Map<String, Object> exampleJson;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "referenced_dtos", columnDefinition = "JSON")
+    private Map<String, Integer> referencedDtos;
+
     @Builder
     public ResponseSchema(final Long id, final Long apiEndpointId, final Integer statusCode,
                           final String dtoName, final Map<String, Object> schemaJson,
-                          final Map<String, Object> exampleJson) {
+                          final Map<String, Object> exampleJson, final Map<String, Integer> referencedDtos) {
         this.id = id;
         this.apiEndpointId = apiEndpointId;
         this.statusCode = statusCode;
         this.dtoName = dtoName;
         this.schemaJson = schemaJson;
         this.exampleJson = exampleJson;
+        this.referencedDtos = referencedDtos;
     }
 }
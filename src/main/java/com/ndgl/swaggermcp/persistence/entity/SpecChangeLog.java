@@ -0,0 +1,66 @@
+package com.ndgl.swaggermcp.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Entity
+@Table(name = "spec_change_logs", indexes = {
+    @Index(name = "idx_spec_change_logs_synced_at", columnList = "synced_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SpecChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+
+    @Column(name = "backend_url", length = 255)
+    private String backendUrl;
+
+    @Column(name = "swagger_version", length = 50)
+    private String swaggerVersion;
+
+    @Column(name = "previous_swagger_version", length = 50)
+    private String previousSwaggerVersion;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "added", columnDefinition = "JSON")
+    private List<String> added;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "removed", columnDefinition = "JSON")
+    private List<String> removed;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "modified", columnDefinition = "JSON")
+    private Map<String, List<String>> modified;
+
+    @Column(name = "unchanged_count")
+    private Integer unchangedCount;
+
+    @Builder
+    public SpecChangeLog(final Long id, final LocalDateTime syncedAt, final String backendUrl,
+                         final String swaggerVersion, final String previousSwaggerVersion,
+                         final List<String> added, final List<String> removed,
+                         final Map<String, List<String>> modified, final Integer unchangedCount) {
+        this.id = id;
+        this.syncedAt = syncedAt;
+        this.backendUrl = backendUrl;
+        this.swaggerVersion = swaggerVersion;
+        this.previousSwaggerVersion = previousSwaggerVersion;
+        this.added = added;
+        this.removed = removed;
+        this.modified = modified;
+        this.unchangedCount = unchangedCount;
+    }
+}
@@ -0,0 +1,112 @@
+package com.ndgl.swaggermcp.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Entity
+@Table(name = "sync_histories", indexes = {
+    @Index(name = "idx_sync_histories_backend_url", columnList = "backend_url")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+
+    @Column(name = "backend_url", length = 255)
+    private String backendUrl;
+
+    @Column(name = "swagger_version", length = 50)
+    private String swaggerVersion;
+
+    @Column(name = "success", nullable = false)
+    private Boolean success;
+
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "total_endpoints")
+    private Integer totalEndpoints;
+
+    @Column(name = "total_millis")
+    private Long totalMillis;
+
+    @Column(name = "fetch_millis")
+    private Long fetchMillis;
+
+    @Column(name = "parse_millis")
+    private Long parseMillis;
+
+    @Column(name = "resolve_millis")
+    private Long resolveMillis;
+
+    @Column(name = "persist_millis")
+    private Long persistMillis;
+
+    @Column(name = "document_bytes")
+    private Long documentBytes;
+
+    @Column(name = "ref_expansions")
+    private Integer refExpansions;
+
+    @Column(name = "largest_schema_bytes")
+    private Integer largestSchemaBytes;
+
+    @Column(name = "largest_schema_name", length = 512)
+    private String largestSchemaName;
+
+    @Column(name = "expanded_bytes")
+    private Long expandedBytes;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "truncations", columnDefinition = "JSON")
+    private Map<String, Integer> truncations;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "rows_written", columnDefinition = "JSON")
+    private Map<String, Integer> rowsWritten;
+
+    @Column(name = "peak_heap_delta_bytes")
+    private Long peakHeapDeltaBytes;
+
+    @Builder
+    public SyncHistory(final Long id, final LocalDateTime syncedAt, final String backendUrl,
+                       final String swaggerVersion, final Boolean success, final String message,
+                       final Integer totalEndpoints, final Long totalMillis, final Long fetchMillis,
+                       final Long parseMillis, final Long resolveMillis, final Long persistMillis,
+                       final Long documentBytes, final Integer refExpansions, final Integer largestSchemaBytes,
+                       final String largestSchemaName, final Long expandedBytes,
+                       final Map<String, Integer> truncations, final Map<String, Integer> rowsWritten,
+                       final Long peakHeapDeltaBytes) {
+        this.id = id;
+        this.syncedAt = syncedAt;
+        this.backendUrl = backendUrl;
+        this.swaggerVersion = swaggerVersion;
+        this.success = success;
+        this.message = message;
+        this.totalEndpoints = totalEndpoints;
+        this.totalMillis = totalMillis;
+        this.fetchMillis = fetchMillis;
+        this.parseMillis = parseMillis;
+        this.resolveMillis = resolveMillis;
+        this.persistMillis = persistMillis;
+        this.documentBytes = documentBytes;
+        this.refExpansions = refExpansions;
+        this.largestSchemaBytes = largestSchemaBytes;
+        this.largestSchemaName = largestSchemaName;
+        this.expandedBytes = expandedBytes;
+        this.truncations = truncations;
+        this.rowsWritten = rowsWritten;
+        this.peakHeapDeltaBytes = peakHeapDeltaBytes;
+    }
+}
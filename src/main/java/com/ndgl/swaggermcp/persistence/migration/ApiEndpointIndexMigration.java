@@ -0,0 +1,56 @@
+package com.ndgl.swaggermcp.persistence.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * api_endpoints 예전 unique 인덱스 삭제 (시작 시 1회)
+ *
+ * operationId 중복 검사가 (source, operation_id)로 바뀌었지만 ddl-auto: update는 새 인덱스만 만들고
+ * 예전 operation_id 단일 unique 인덱스는 남겨 두므로, 여러 source에 같은 operationId가 있으면 저장이 실패한다.
+ * ApplicationReadyEvent(시작 동기화, 파일 감시)보다 먼저 실행되는 ApplicationRunner에서 지운다.
+ * 실패해도 시작은 계속하고 경고만 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ApiEndpointIndexMigration implements ApplicationRunner {
+
+    /**
+     * operation_id 한 컬럼만으로 된 unique 인덱스 (PRIMARY 제외)
+     */
+    private static final String FIND_LEGACY_INDEXES = """
+            SELECT index_name
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'api_endpoints'
+              AND non_unique = 0
+              AND index_name <> 'PRIMARY'
+            GROUP BY index_name
+            HAVING COUNT(*) = 1 AND MAX(column_name) = 'operation_id'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        try {
+            final List<String> indexes = jdbcTemplate.queryForList(FIND_LEGACY_INDEXES, String.class);
+            for (final String index : indexes) {
+                jdbcTemplate.execute("ALTER TABLE api_endpoints DROP INDEX `" + index.replace("`", "``") + "`");
+                log.info("api_endpoints 예전 operation_id unique 인덱스 삭제: {}", index);
+            }
+        } catch (Exception e) {
+            log.warn("api_endpoints 예전 unique 인덱스 정리 실패, 수동으로 삭제해야 합니다", e);
+        }
+    }
+}
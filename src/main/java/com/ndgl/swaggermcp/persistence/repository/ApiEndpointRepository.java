@@ -2,17 +2,21 @@ package com.ndgl.swaggermcp.persistence.repository;
 
 import com.ndgl.swaggermcp.persistence.entity.ApiEndpoint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface ApiEndpointRepository extends JpaRepository<ApiEndpoint, Long> {
 
     /**
      * 키워드로 API 검색 (path, summary, description, tags 검색)
+     * cursor로 이어서 조회할 때 순서가 같아야 하므로 ID순으로 정렬한다.
      */
     @Query("""
         SELECT DISTINCT a FROM ApiEndpoint a
@@ -20,6 +24,26 @@ public interface ApiEndpointRepository extends JpaRepository<ApiEndpoint, Long>
            OR LOWER(a.summary) LIKE LOWER(CONCAT('%', :keyword, '%'))
            OR LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%'))
            OR LOWER(a.operationId) LIKE LOWER(CONCAT('%', :keyword, '%'))
+        ORDER BY a.id
         """)
     List<ApiEndpoint> searchByKeyword(@Param("keyword") String keyword);
+
+    /**
+     * source의 API 조회 (source 컬럼 추가 전에 저장된 row 포함)
+     */
+    List<ApiEndpoint> findBySourceOrSourceIsNull(String source);
+
+    /**
+     * 다른 source가 사용 중인 API ID
+     */
+    @Query("SELECT a.id FROM ApiEndpoint a WHERE a.source <> :source")
+    Set<Long> findIdsBySourceNot(@Param("source") String source);
+
+    /**
+     * API 일괄 삭제
+     * 같은 ID로 다시 저장하므로 영속성 컨텍스트에 남은 삭제 전 엔티티를 비운다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ApiEndpoint a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
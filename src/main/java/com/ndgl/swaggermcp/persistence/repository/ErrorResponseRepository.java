@@ -2,8 +2,12 @@ package com.ndgl.swaggermcp.persistence.repository;
 
 import com.ndgl.swaggermcp.persistence.entity.ErrorResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -33,4 +37,11 @@ public interface ErrorResponseRepository extends JpaRepository<ErrorResponse, Lo
      * API Endpoint ID로 존재 여부 확인
      */
     boolean existsByApiEndpointId(Long apiEndpointId);
+
+    /**
+     * API Endpoint ID 목록의 Error Response 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ErrorResponse e WHERE e.apiEndpointId IN :apiEndpointIds")
+    int deleteByApiEndpointIdIn(@Param("apiEndpointIds") Collection<Long> apiEndpointIds);
 }
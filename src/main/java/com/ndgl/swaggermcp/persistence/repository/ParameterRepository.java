@@ -2,8 +2,12 @@ package com.ndgl.swaggermcp.persistence.repository;
 
 import com.ndgl.swaggermcp.persistence.entity.Parameter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +17,11 @@ public interface ParameterRepository extends JpaRepository<Parameter, Long> {
      * API Endpoint ID로 Parameter 목록 조회
      */
     List<Parameter> findByApiEndpointId(Long apiEndpointId);
+
+    /**
+     * API Endpoint ID 목록의 Parameter 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Parameter e WHERE e.apiEndpointId IN :apiEndpointIds")
+    int deleteByApiEndpointIdIn(@Param("apiEndpointIds") Collection<Long> apiEndpointIds);
 }
@@ -2,8 +2,12 @@ package com.ndgl.swaggermcp.persistence.repository;
 
 import com.ndgl.swaggermcp.persistence.entity.RequestSchema;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +28,11 @@ public interface RequestSchemaRepository extends JpaRepository<RequestSchema, Lo
      * API Endpoint ID로 존재 여부 확인
      */
     boolean existsByApiEndpointId(Long apiEndpointId);
+
+    /**
+     * API Endpoint ID 목록의 Request Schema 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM RequestSchema e WHERE e.apiEndpointId IN :apiEndpointIds")
+    int deleteByApiEndpointIdIn(@Param("apiEndpointIds") Collection<Long> apiEndpointIds);
 }
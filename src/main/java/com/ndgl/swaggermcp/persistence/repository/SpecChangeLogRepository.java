@@ -0,0 +1,23 @@
+package com.ndgl.swaggermcp.persistence.repository;
+
+import com.ndgl.swaggermcp.persistence.entity.SpecChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SpecChangeLogRepository extends JpaRepository<SpecChangeLog, Long> {
+
+    /**
+     * 최근 변경 내역 조회 (최신순)
+     */
+    List<SpecChangeLog> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * 특정 시각 이후 변경 내역 조회 (최신순)
+     */
+    List<SpecChangeLog> findBySyncedAtAfterOrderByIdDesc(LocalDateTime since, Pageable pageable);
+}
@@ -4,6 +4,18 @@ import com.ndgl.swaggermcp.persistence.entity.SwaggerMetadata;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface SwaggerMetadataRepository extends JpaRepository<SwaggerMetadata, Long> {
+
+    /**
+     * source의 최근 메타데이터 조회
+     */
+    Optional<SwaggerMetadata> findFirstByBackendUrlOrderByIdDesc(String backendUrl);
+
+    /**
+     * source의 메타데이터 삭제
+     */
+    void deleteByBackendUrl(String backendUrl);
 }
@@ -0,0 +1,22 @@
+package com.ndgl.swaggermcp.persistence.repository;
+
+import com.ndgl.swaggermcp.persistence.entity.SyncHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SyncHistoryRepository extends JpaRepository<SyncHistory, Long> {
+
+    /**
+     * 최근 동기화 이력 조회 (최신순)
+     */
+    List<SyncHistory> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Backend URL별 최근 동기화 이력 조회 (최신순)
+     */
+    List<SyncHistory> findByBackendUrlOrderByIdDesc(String backendUrl, Pageable pageable);
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import com.ndgl.swaggermcp.sync.dto.ParsedErrorResponse;
 import com.ndgl.swaggermcp.sync.support.JsonSchemaParsingSupport;
+import com.ndgl.swaggermcp.sync.support.SyncStatistics;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +23,8 @@ public class ErrorResponseParser {
 
     private final JsonSchemaParsingSupport parsingSupport;
 
-    public List<ParsedErrorResponse> parseErrorResponses(final JsonNode swaggerJson, final JsonNode operation) {
+    public List<ParsedErrorResponse> parseErrorResponses(final JsonNode swaggerJson, final JsonNode operation,
+                                                         final SyncStatistics statistics) {
         final List<ParsedErrorResponse> errors = new ArrayList<>();
         final JsonNode responsesNode = operation.path("responses");
 
@@ -37,7 +39,7 @@ public class ErrorResponseParser {
             try {
                 final int statusCode = Integer.parseInt(statusCodeStr);
                 if (statusCode >= 400) {
-                    final ParsedErrorResponse errorResponse = parseErrorResponse(swaggerJson, statusCode, response);
+                    final ParsedErrorResponse errorResponse = parseErrorResponse(swaggerJson, statusCode, response, statistics);
                     if (errorResponse != null) {
                         errors.add(errorResponse);
                     }
@@ -50,29 +52,30 @@ public class ErrorResponseParser {
         return errors;
     }
 
-    private ParsedErrorResponse parseErrorResponse(final JsonNode swaggerJson, final int statusCode, final JsonNode response) {
+    private ParsedErrorResponse parseErrorResponse(final JsonNode swaggerJson, final int statusCode, final JsonNode response,
+                                                   final SyncStatistics statistics) {
         final String description = response.path("description").asText("");
         final JsonNode content = response.path("content");
 
         if (content.isMissingNode()) {
-            return new ParsedErrorResponse(statusCode, null, null, null, null, null, description, null, null);
+            return new ParsedErrorResponse(statusCode, null, null, null, null, null, description, null, null, null);
         }
 
         final JsonNode jsonContent = parsingSupport.selectContentNode(content);
         if (jsonContent.isMissingNode()) {
-            return new ParsedErrorResponse(statusCode, null, null, null, null, null, description, null, null);
+            return new ParsedErrorResponse(statusCode, null, null, null, null, null, description, null, null, null);
         }
 
         final JsonNode schema = jsonContent.path("schema");
         final String schemaRef = schema.path("$ref").asText("");
 
-        // 모든 $ref를 재귀적으로 resolve
-        final JsonNode resolvedSchema = parsingSupport.resolveAllRefs(swaggerJson, schema);
+        // $ref resolve + required 인라인 + example 수집을 한 번에 (사용 DTO 수집)
+        final JsonSchemaParsingSupport.TransformedSchema transformed =
+                parsingSupport.transformSchema(swaggerJson, jsonContent, statistics);
+        final Map<String, Integer> referencedDtos = transformed.referencedDtos();
+        final String schemaJson = transformed.schemaJson();
 
-        // required 정보를 각 필드에 포함시킨 enriched schema 생성
-        final JsonNode enrichedSchema = parsingSupport.enrichSchemaWithRequired(resolvedSchema);
-
-        final JsonSchemaParsingSupport.ExampleData exampleData = parsingSupport.extractExample(jsonContent, resolvedSchema);
+        final JsonSchemaParsingSupport.ExampleData exampleData = transformed.example();
         final JsonNode example = exampleData.value() == null ? MissingNode.getInstance() : exampleData.value();
 
         final String code = example.path("code").asText("");
@@ -80,7 +83,6 @@ public class ErrorResponseParser {
         final List<Map<String, Object>> errors = parseValidationErrors(example);
 
         final String[] codeParts = parseErrorCode(code);
-        final String schemaJson = parsingSupport.convertToJsonString(enrichedSchema);
 
         return new ParsedErrorResponse(
                 statusCode,
@@ -91,7 +93,8 @@ public class ErrorResponseParser {
                 message,
                 description,
                 schemaJson,
-                errors
+                errors,
+                referencedDtos
         );
     }
 
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.ndgl.swaggermcp.sync.dto.ParsedParameter;
 import com.ndgl.swaggermcp.sync.dto.ParsedRequestBody;
 import com.ndgl.swaggermcp.sync.support.JsonSchemaParsingSupport;
+import com.ndgl.swaggermcp.sync.support.SyncStatistics;
 
 import lombok.RequiredArgsConstructor;
 
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -21,7 +23,8 @@ public class RequestSchemaParser {
     /**
      * RequestBody 파싱 (POST, PUT, PATCH 등)
      */
-    public ParsedRequestBody parseRequestBody(final JsonNode swaggerJson, final JsonNode operation) {
+    public ParsedRequestBody parseRequestBody(final JsonNode swaggerJson, final JsonNode operation,
+                                              final SyncStatistics statistics) {
         final JsonNode requestBody = operation.path("requestBody");
         if (requestBody.isMissingNode()) {
             return null;
@@ -39,22 +42,22 @@ public class RequestSchemaParser {
         final String schemaRef = schema.path("$ref").asText("");
         final String dtoName = parsingSupport.extractDtoNameFromRef(schemaRef);
 
-        // 모든 $ref를 재귀적으로 resolve
-        final JsonNode resolvedSchema = parsingSupport.resolveAllRefs(swaggerJson, schema);
+        // $ref resolve + required 인라인 + example 수집을 한 번에 (사용 DTO 수집)
+        final JsonSchemaParsingSupport.TransformedSchema transformed =
+                parsingSupport.transformSchema(swaggerJson, jsonContent, statistics);
+        final Map<String, Integer> referencedDtos = transformed.referencedDtos();
+        final String schemaJson = transformed.schemaJson();
 
-        // required 정보를 각 필드에 포함시킨 enriched schema 생성
-        final JsonNode enrichedSchema = parsingSupport.enrichSchemaWithRequired(resolvedSchema);
-
-        final JsonSchemaParsingSupport.ExampleData exampleData = parsingSupport.extractExample(jsonContent, resolvedSchema);
+        final JsonSchemaParsingSupport.ExampleData exampleData = transformed.example();
         final String exampleJson = parsingSupport.convertToJsonString(exampleData.value());
-        final String schemaJson = parsingSupport.convertToJsonString(enrichedSchema);
 
         return new ParsedRequestBody(
                 dtoName,
                 schemaJson,
                 exampleJson,
                 required,
-                "application/json"
+                "application/json",
+                referencedDtos
         );
     }
 
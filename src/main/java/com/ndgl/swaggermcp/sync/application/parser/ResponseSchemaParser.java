@@ -3,6 +3,7 @@ package com.ndgl.swaggermcp.sync.application.parser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.ndgl.swaggermcp.sync.dto.ParsedResponseSchema;
 import com.ndgl.swaggermcp.sync.support.JsonSchemaParsingSupport;
+import com.ndgl.swaggermcp.sync.support.SyncStatistics;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +21,8 @@ public class ResponseSchemaParser {
 
     private final JsonSchemaParsingSupport parsingSupport;
 
-    public List<ParsedResponseSchema> parseResponseSchemas(final JsonNode swaggerJson, final JsonNode operation) {
+    public List<ParsedResponseSchema> parseResponseSchemas(final JsonNode swaggerJson, final JsonNode operation,
+                                                           final SyncStatistics statistics) {
         final List<ParsedResponseSchema> responses = new ArrayList<>();
         final JsonNode responsesNode = operation.path("responses");
 
@@ -35,7 +37,7 @@ public class ResponseSchemaParser {
             try {
                 final int statusCode = Integer.parseInt(statusCodeStr);
                 if (statusCode >= 200 && statusCode < 300) {
-                    final ParsedResponseSchema parsedResponse = parseResponse(swaggerJson, statusCode, response);
+                    final ParsedResponseSchema parsedResponse = parseResponse(swaggerJson, statusCode, response, statistics);
 					responses.add(parsedResponse);
 				}
             } catch (NumberFormatException e) {
@@ -46,7 +48,8 @@ public class ResponseSchemaParser {
         return responses;
     }
 
-    private ParsedResponseSchema parseResponse(final JsonNode swaggerJson, final int statusCode, final JsonNode response) {
+    private ParsedResponseSchema parseResponse(final JsonNode swaggerJson, final int statusCode, final JsonNode response,
+                                               final SyncStatistics statistics) {
         final String description = response.path("description").asText("");
         final JsonNode content = response.path("content");
 
@@ -57,6 +60,7 @@ public class ResponseSchemaParser {
                     null,
                     null,
                     description,
+                    null,
                     null
             );
         }
@@ -69,6 +73,7 @@ public class ResponseSchemaParser {
                     null,
                     null,
                     description,
+                    null,
                     null
             );
         }
@@ -77,15 +82,14 @@ public class ResponseSchemaParser {
         final String schemaRef = schema.path("$ref").asText("");
         final String dtoName = parsingSupport.extractDtoNameFromRef(schemaRef);
 
-        // 모든 $ref를 재귀적으로 resolve
-        final JsonNode resolvedSchema = parsingSupport.resolveAllRefs(swaggerJson, schema);
-
-        // required 정보를 각 필드에 포함시킨 enriched schema 생성
-        final JsonNode enrichedSchema = parsingSupport.enrichSchemaWithRequired(resolvedSchema);
+        // $ref resolve + required 인라인 + example 수집을 한 번에 (사용 DTO 수집)
+        final JsonSchemaParsingSupport.TransformedSchema transformed =
+                parsingSupport.transformSchema(swaggerJson, jsonContent, statistics);
+        final Map<String, Integer> referencedDtos = transformed.referencedDtos();
+        final String schemaJson = transformed.schemaJson();
 
-        final JsonSchemaParsingSupport.ExampleData exampleData = parsingSupport.extractExample(jsonContent, resolvedSchema);
+        final JsonSchemaParsingSupport.ExampleData exampleData = transformed.example();
         final String exampleJson = parsingSupport.convertToJsonString(exampleData.value());
-        final String schemaJson = parsingSupport.convertToJsonString(enrichedSchema);
 
         return new ParsedResponseSchema(
                 statusCode,
@@ -93,7 +97,8 @@ public class ResponseSchemaParser {
                 schemaJson,
                 exampleJson,
                 description,
-                "application/json"
+                "application/json",
+                referencedDtos
         );
     }
 }
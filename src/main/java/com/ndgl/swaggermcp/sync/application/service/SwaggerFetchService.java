@@ -1,11 +1,18 @@
 package com.ndgl.swaggermcp.sync.application.service;
 
-import java.util.Iterator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.ndgl.swaggermcp.sync.support.LocalSpecReader;
+import com.ndgl.swaggermcp.sync.support.SpecDocument;
+import com.ndgl.swaggermcp.sync.support.SyncMetrics;
+import com.ndgl.swaggermcp.sync.support.SyncStatistics;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
@@ -15,47 +22,97 @@ import org.springframework.web.client.RestClientException;
 @RequiredArgsConstructor
 public class SwaggerFetchService {
 
-    private final ObjectMapper objectMapper;
+    private static final String TEMP_FILE_PREFIX = "swagger-spec-";
+
     private final RestClient restClient;
+    private final LocalSpecReader localSpecReader;
+    private final SyncMetrics syncMetrics;
 
     /**
-     * Swagger URL에서 JSON 다운로드
+     * Swagger source에서 문서 가져오기
+     * http(s):// 는 임시 파일로 내려받고, 둘 다 memory-mapped로 연다. JSON 해석은 SwaggerParserService가 한다.
      *
-     * @param swaggerUrl Swagger JSON URL
-     * @return Swagger JSON (JsonNode)
+     * @param swaggerUrl Swagger JSON URL 또는 file:// 경로
+     * @param statistics 동기화 통계 수집기 (문서 크기 기록)
+     * @return 다시 읽을 수 있는 문서 원본
+     */
+    public SpecDocument fetchSwaggerDocument(final String swaggerUrl, final SyncStatistics statistics) {
+        final SpecDocument document = LocalSpecReader.isLocal(swaggerUrl)
+                ? readLocalSwaggerDocument(swaggerUrl)
+                : downloadSwaggerDocument(swaggerUrl);
+
+        syncMetrics.recordFetchBytes(swaggerUrl, document.size());
+        statistics.recordDocumentBytes(document.size());
+        return document;
+    }
+
+    /**
+     * http(s):// source 다운로드
+     * 응답 본문을 byte[]로 모으지 않고 임시 파일로 흘려 쓴 뒤 file:// 와 같이 mmap한다.
+     * map한 buffer는 파일을 지운 뒤에도 유효하므로 임시 파일은 바로 지운다. (지울 수 없는 OS면 종료 시 삭제)
      */
-    public JsonNode fetchSwaggerJson(final String swaggerUrl) {
+    private SpecDocument downloadSwaggerDocument(final String swaggerUrl) {
         log.info("Fetching Swagger JSON from: {}", swaggerUrl);
 
+        Path file = null;
         try {
-            String jsonString = restClient.get()
+            file = Files.createTempFile(TEMP_FILE_PREFIX, ".json");
+            final Path target = file;
+            restClient.get()
                     .uri(swaggerUrl)
-                    .retrieve()
-                    .body(String.class);
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new IllegalStateException(
+                                    "Swagger JSON 요청 실패 (" + response.getStatusCode() + ") from URL: " + swaggerUrl);
+                        }
+                        try (InputStream body = response.getBody()) {
+                            return Files.copy(body, target, StandardCopyOption.REPLACE_EXISTING);
+                        }
+                    });
 
-            if (jsonString == null || jsonString.isBlank()) {
+            final MappedByteBuffer buffer = LocalSpecReader.mapFile(file);
+            if (buffer.limit() == 0) {
                 throw new IllegalStateException("Swagger JSON is empty from URL: " + swaggerUrl);
             }
+            return SpecDocument.of(buffer);
 
-            JsonNode jsonNode = objectMapper.readTree(jsonString);
-            log.info("Successfully fetched Swagger JSON. Version: {}",
-                    jsonNode.path("openapi").asText("unknown"));
-
-            Iterator<String> fieldNames = jsonNode.path("paths").fieldNames();
-            while (fieldNames.hasNext()) {
-                String path = fieldNames.next();
-                log.info("path = {}", path);
-            }
-
-            return jsonNode;
-
-        } catch (RestClientException e) {
+        } catch (RestClientException | IOException e) {
             log.error("Failed to fetch Swagger JSON from URL: {}", swaggerUrl, e);
             throw new RuntimeException("Failed to fetch Swagger JSON: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Failed to parse Swagger JSON", e);
-            throw new RuntimeException("Failed to parse Swagger JSON: " + e.getMessage(), e);
+        } finally {
+            deleteTempFile(file);
         }
     }
 
+    private void deleteTempFile(final Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("임시 Swagger 파일을 지금 지울 수 없어 종료 시 삭제합니다: {}", file);
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * file:// source 열기
+     * mmap한 buffer를 그대로 parser에 stream으로 넘기므로 byte[] / String으로 문서 전체를 복사하지 않는다.
+     */
+    private SpecDocument readLocalSwaggerDocument(final String source) {
+        log.info("Reading Swagger JSON from file: {}", source);
+
+        try {
+            final MappedByteBuffer buffer = localSpecReader.map(source);
+            if (buffer.limit() == 0) {
+                throw new IllegalStateException("Swagger JSON is empty from file: " + source);
+            }
+            return SpecDocument.of(buffer);
+
+        } catch (IOException e) {
+            log.error("Failed to read Swagger JSON from file: {}", source, e);
+            throw new RuntimeException("Failed to read Swagger JSON: " + e.getMessage(), e);
+        }
+    }
 }
@@ -1,6 +1,11 @@
 package com.ndgl.swaggermcp.sync.application.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ndgl.swaggermcp.common.jfr.ParseOperationEvent;
 import com.ndgl.swaggermcp.sync.dto.ParsedApiEndpoint;
 import com.ndgl.swaggermcp.sync.dto.ParsedEndpointBasicInfo;
 import com.ndgl.swaggermcp.sync.dto.ParsedErrorResponse;
@@ -11,35 +16,134 @@ import com.ndgl.swaggermcp.sync.application.parser.EndpointBasicInfoParser;
 import com.ndgl.swaggermcp.sync.application.parser.ErrorResponseParser;
 import com.ndgl.swaggermcp.sync.application.parser.RequestSchemaParser;
 import com.ndgl.swaggermcp.sync.application.parser.ResponseSchemaParser;
-import lombok.RequiredArgsConstructor;
+import com.ndgl.swaggermcp.sync.support.SpecDocument;
+import com.ndgl.swaggermcp.sync.support.SyncMetrics;
+import com.ndgl.swaggermcp.sync.support.SyncStatistics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * API 엔드포인트 및 Tag 파싱 전담 서비스
+ *
+ * 문서 크기가 swagger.parse.streaming-threshold-bytes 이상이면 전체 JsonNode tree를 만들지 않고 두 번 스트리밍으로 읽는다.
+ * 1. components(및 Swagger 2 definitions)와 버전만 tree로 남긴다 ($ref 해석용).
+ * 2. paths를 token 단위로 읽으며 operation을 하나씩 tree로 만들어 파싱한다.
+ * 파싱한 operation은 목록으로 모으지 않고 하나씩 consumer에 넘기므로(저장은 SwaggerSyncService),
+ * 파싱 중 힙 사용량은 문서 전체가 아니라 components + 가장 큰 operation에 비례한다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SwaggerParserService {
 
+    /**
+     * 스트리밍 모드에서 tree로 남기는 최상위 필드 ($ref 대상과 버전)
+     */
+    private static final Set<String> INDEXED_TOP_LEVEL_FIELDS = Set.of("openapi", "swagger", "components", "definitions");
+
     private final EndpointBasicInfoParser basicInfoParser;
     private final RequestSchemaParser requestSchemaParser;
     private final ResponseSchemaParser responseSchemaParser;
     private final ErrorResponseParser errorResponseParser;
+    private final SyncMetrics syncMetrics;
+    private final ObjectMapper objectMapper;
+    private final long streamingThresholdBytes;
+
+    /**
+     * @param streamingThresholdBytes 이 크기 이상의 문서는 스트리밍으로 파싱 (0이면 항상, 음수면 사용 안 함)
+     */
+    public SwaggerParserService(final EndpointBasicInfoParser basicInfoParser,
+                                final RequestSchemaParser requestSchemaParser,
+                                final ResponseSchemaParser responseSchemaParser,
+                                final ErrorResponseParser errorResponseParser,
+                                final SyncMetrics syncMetrics,
+                                final ObjectMapper objectMapper,
+                                @Value("${swagger.parse.streaming-threshold-bytes:33554432}") final long streamingThresholdBytes) {
+        this.basicInfoParser = basicInfoParser;
+        this.requestSchemaParser = requestSchemaParser;
+        this.responseSchemaParser = responseSchemaParser;
+        this.errorResponseParser = errorResponseParser;
+        this.syncMetrics = syncMetrics;
+        this.objectMapper = objectMapper;
+        this.streamingThresholdBytes = streamingThresholdBytes;
+    }
+
+    public boolean isStreaming(final SpecDocument document) {
+        return streamingThresholdBytes >= 0 && document.size() >= streamingThresholdBytes;
+    }
+
+    /**
+     * 문서 최상위 JSON 읽기
+     * 일반 모드는 문서 전체 tree를, 스트리밍 모드는 components와 버전만 담은 tree를 반환한다. (1차 pass)
+     *
+     * @param document Swagger 문서 원본
+     * @return $ref 해석과 버전 추출에 쓰는 최상위 JSON
+     */
+    public JsonNode readRoot(final SpecDocument document) {
+        try {
+            if (isStreaming(document)) {
+                return indexComponents(document);
+            }
+
+            final JsonNode swaggerJson;
+            try (JsonParser parser = document.open(objectMapper.getFactory())) {
+                swaggerJson = objectMapper.readTree(parser);
+            }
+            if (swaggerJson == null || swaggerJson.isMissingNode()) {
+                throw new IllegalStateException("Swagger JSON is empty");
+            }
+            log.info("Successfully fetched Swagger JSON. Version: {}",
+                    swaggerJson.path("openapi").asText("unknown"));
+
+            log.debug("paths: {}", swaggerJson.path("paths").size());
 
-    public List<ParsedApiEndpoint> parseApiEndpoints(final JsonNode swaggerJson) {
+            return swaggerJson;
+        } catch (IOException e) {
+            log.error("Failed to parse Swagger JSON", e);
+            throw new RuntimeException("Failed to parse Swagger JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 문서의 paths 파싱
+     * operation을 파싱하는 대로 하나씩 consumer에 넘긴다. 스트리밍 모드면 문서를 다시 읽는다. (2차 pass)
+     *
+     * @param document Swagger 문서 원본
+     * @param swaggerJson readRoot 결과
+     * @param statistics 동기화 통계 수집기
+     * @param consumer 파싱된 API 엔드포인트를 받는 쪽
+     */
+    public void parseApiEndpoints(final SpecDocument document, final JsonNode swaggerJson,
+                                  final SyncStatistics statistics, final Consumer<ParsedApiEndpoint> consumer) {
+        if (isStreaming(document)) {
+            streamApiEndpoints(document, swaggerJson, statistics, consumer);
+        } else {
+            parseApiEndpoints(swaggerJson, statistics, consumer);
+        }
+    }
+
+    /**
+     * 전체 paths 파싱
+     *
+     * @param swaggerJson 전체 Swagger JSON
+     * @param statistics 동기화 통계 수집기
+     * @param consumer 파싱된 API 엔드포인트를 받는 쪽
+     */
+    private void parseApiEndpoints(final JsonNode swaggerJson, final SyncStatistics statistics,
+                                   final Consumer<ParsedApiEndpoint> consumer) {
         log.info("API 엔드포인트 파싱 시작");
-        final List<ParsedApiEndpoint> endpoints = new ArrayList<>();
+        int count = 0;
 
         final JsonNode paths = swaggerJson.path("paths");
         if (paths.isMissingNode()) {
             log.warn("Swagger JSON에 'paths' 필드가 없습니다");
-            return endpoints;
+            return;
         }
 
         for (final Map.Entry<String, JsonNode> pathEntry : paths.properties()) {
@@ -50,30 +154,129 @@ public class SwaggerParserService {
                 final String method = methodEntry.getKey().toUpperCase();
                 final JsonNode operation = methodEntry.getValue();
 
-                final ParsedApiEndpoint endpoint = parseOperation(swaggerJson, path, method, operation);
-                endpoints.add(endpoint);
+                final long start = System.nanoTime();
+                final ParsedApiEndpoint endpoint = parseOperation(swaggerJson, path, method, operation, statistics);
+                syncMetrics.recordOperationParse(System.nanoTime() - start);
+                consumer.accept(endpoint);
+                count++;
 
                 log.debug("엔드포인트 파싱 완료: {} {}", method, path);
             }
         }
 
-        log.info("API 엔드포인트 파싱 완료: {}개", endpoints.size());
-        return endpoints;
+        log.info("API 엔드포인트 파싱 완료: {}개", count);
+    }
+
+    /**
+     * 1차 pass: 최상위 필드 중 components / definitions / 버전만 tree로 읽고 나머지(paths 등)는 건너뛴다
+     */
+    private JsonNode indexComponents(final SpecDocument document) throws IOException {
+        final ObjectNode root = objectMapper.createObjectNode();
+        try (JsonParser parser = document.open(objectMapper.getFactory())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Swagger JSON is empty");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                parser.nextToken();
+                if (INDEXED_TOP_LEVEL_FIELDS.contains(field)) {
+                    root.set(field, objectMapper.readTree(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        log.info("Swagger JSON 스트리밍 모드: components만 적재 (문서 {} bytes, 버전 {})",
+                document.size(), root.path("openapi").asText("unknown"));
+        return root;
+    }
+
+    /**
+     * 2차 pass: paths를 token 단위로 읽으며 operation 하나씩 파싱
+     * 일반 모드와 같게 path item의 모든 필드를 method로 취급한다.
+     */
+    private void streamApiEndpoints(final SpecDocument document, final JsonNode swaggerJson,
+                                    final SyncStatistics statistics, final Consumer<ParsedApiEndpoint> consumer) {
+        log.info("API 엔드포인트 스트리밍 파싱 시작");
+        int count = 0;
+
+        try (JsonParser parser = document.open(objectMapper.getFactory())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Swagger JSON is empty");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_OBJECT || !"paths".equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String path = parser.currentName(); // api endpoint
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        final String method = parser.currentName().toUpperCase();
+                        parser.nextToken();
+                        final JsonNode operation = objectMapper.readTree(parser);
+
+                        final long start = System.nanoTime();
+                        final ParsedApiEndpoint endpoint = parseOperation(swaggerJson, path, method, operation, statistics);
+                        syncMetrics.recordOperationParse(System.nanoTime() - start);
+                        consumer.accept(endpoint);
+                        count++;
+
+                        log.debug("엔드포인트 파싱 완료: {} {}", method, path);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to parse Swagger JSON", e);
+            throw new RuntimeException("Failed to parse Swagger JSON: " + e.getMessage(), e);
+        }
+
+        log.info("API 엔드포인트 스트리밍 파싱 완료: {}개", count);
     }
 
-    private ParsedApiEndpoint parseOperation(final JsonNode swaggerJson, final String path, final String method, final JsonNode operation) {
+    private ParsedApiEndpoint parseOperation(final JsonNode swaggerJson, final String path, final String method,
+                                             final JsonNode operation, final SyncStatistics statistics) {
+        final ParseOperationEvent event = new ParseOperationEvent();
+        event.begin();
+        try {
+            return parseOperationInternal(swaggerJson, path, method, operation, statistics);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = method;
+                event.path = path;
+                event.commit();
+            }
+        }
+    }
+
+    private ParsedApiEndpoint parseOperationInternal(final JsonNode swaggerJson, final String path, final String method,
+                                                     final JsonNode operation, final SyncStatistics statistics) {
         // 1. 기본 정보 파싱
         final ParsedEndpointBasicInfo basicInfo = basicInfoParser.parseBasicInfo(path, method, operation);
 
         // 2. Request 파싱 (Body + Parameters)
-        final ParsedRequestBody requestBody = requestSchemaParser.parseRequestBody(swaggerJson, operation);
+        final ParsedRequestBody requestBody = requestSchemaParser.parseRequestBody(swaggerJson, operation, statistics);
         final List<ParsedParameter> parameters = requestSchemaParser.parseParameters(operation);
 
         // 3. Response 파싱
-        final List<ParsedResponseSchema> responseSchemas = responseSchemaParser.parseResponseSchemas(swaggerJson, operation);
+        final List<ParsedResponseSchema> responseSchemas = responseSchemaParser.parseResponseSchemas(swaggerJson, operation, statistics);
 
         // 4. Error 파싱
-        final List<ParsedErrorResponse> errorResponses = errorResponseParser.parseErrorResponses(swaggerJson, operation);
+        final List<ParsedErrorResponse> errorResponses = errorResponseParser.parseErrorResponses(swaggerJson, operation, statistics);
+
+        // 5. 확장된 schema 크기 기록
+        recordSchemaSizes(method + " " + path, requestBody, responseSchemas, errorResponses, statistics);
 
         return new ParsedApiEndpoint(
                 basicInfo.path(),
@@ -89,4 +292,17 @@ public class SwaggerParserService {
                 errorResponses
         );
     }
+
+    private void recordSchemaSizes(final String operationName, final ParsedRequestBody requestBody,
+                                   final List<ParsedResponseSchema> responseSchemas,
+                                   final List<ParsedErrorResponse> errorResponses,
+                                   final SyncStatistics statistics) {
+        if (requestBody != null) {
+            statistics.recordSchemaSize(operationName + " request", requestBody.schemaJson());
+        }
+        responseSchemas.forEach(response ->
+                statistics.recordSchemaSize(operationName + " response " + response.statusCode(), response.schemaJson()));
+        errorResponses.forEach(error ->
+                statistics.recordSchemaSize(operationName + " error " + error.statusCode(), error.schemaJson()));
+    }
 }
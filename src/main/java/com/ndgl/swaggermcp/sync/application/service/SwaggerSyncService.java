@@ -7,27 +7,41 @@ import com.ndgl.swaggermcp.persistence.entity.ErrorResponse;
 import com.ndgl.swaggermcp.persistence.entity.Parameter;
 import com.ndgl.swaggermcp.persistence.entity.RequestSchema;
 import com.ndgl.swaggermcp.persistence.entity.ResponseSchema;
+import com.ndgl.swaggermcp.persistence.entity.SpecChangeLog;
 import com.ndgl.swaggermcp.persistence.entity.SwaggerMetadata;
 import com.ndgl.swaggermcp.persistence.repository.ApiEndpointRepository;
 import com.ndgl.swaggermcp.persistence.repository.ErrorResponseRepository;
 import com.ndgl.swaggermcp.persistence.repository.ParameterRepository;
 import com.ndgl.swaggermcp.persistence.repository.RequestSchemaRepository;
 import com.ndgl.swaggermcp.persistence.repository.ResponseSchemaRepository;
+import com.ndgl.swaggermcp.persistence.repository.SpecChangeLogRepository;
 import com.ndgl.swaggermcp.persistence.repository.SwaggerMetadataRepository;
 import com.ndgl.swaggermcp.sync.dto.ParsedApiEndpoint;
 import com.ndgl.swaggermcp.sync.dto.ParsedErrorResponse;
 import com.ndgl.swaggermcp.sync.dto.ParsedParameter;
 import com.ndgl.swaggermcp.sync.dto.ParsedRequestBody;
 import com.ndgl.swaggermcp.sync.dto.ParsedResponseSchema;
+import com.ndgl.swaggermcp.sync.dto.SpecChangeSet;
+import com.ndgl.swaggermcp.sync.dto.SyncPersistResult;
+import com.ndgl.swaggermcp.sync.support.ContentHashSupport;
+import com.ndgl.swaggermcp.sync.support.SyncMetrics;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 
 /**
  * Swagger 데이터 동기화 서비스
@@ -38,97 +52,253 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SwaggerSyncService {
 
+    /**
+     * 저장한 operation N개마다 영속성 컨텍스트를 flush 후 비운다
+     */
+    private static final int FLUSH_INTERVAL = 100;
+
     private final ApiEndpointRepository apiEndpointRepository;
     private final RequestSchemaRepository requestSchemaRepository;
     private final ParameterRepository parameterRepository;
     private final ResponseSchemaRepository responseSchemaRepository;
     private final ErrorResponseRepository errorResponseRepository;
     private final SwaggerMetadataRepository swaggerMetadataRepository;
+    private final SpecChangeLogRepository specChangeLogRepository;
+    private final ContentHashSupport contentHashSupport;
     private final ObjectMapper objectMapper;
+    private final SyncMetrics syncMetrics;
+    private final EntityManager entityManager;
+
+    /**
+     * 동기화할 API 엔드포인트 공급자
+     * 파서가 operation을 파싱하는 대로 하나씩 넘기므로 전체 목록을 힙에 모으지 않는다.
+     */
+    @FunctionalInterface
+    public interface EndpointSource {
+
+        void forEach(Consumer<ParsedApiEndpoint> consumer);
+    }
 
     /**
-     * 전체 동기화 (Full Sync)
-     * 기존 데이터를 모두 삭제하고 새로운 데이터 저장
+     * source 단위 증분 동기화 (Incremental Sync)
+     * 이전 동기화 때 저장한 섹션 content hash와 비교해 바뀐 operation만 다시 쓴다. (다른 source의 데이터는 유지)
+     * - 추가: 새로 저장
+     * - 변경: 기존 행과 하위 행(request / parameters / response / error)을 지우고 같은 ID로 다시 저장
+     * - 삭제: 이번 문서에 없는 operation의 행 삭제
+     * - 그대로: 쓰지 않음
+     * source 컬럼이 없던 행과 해시 저장 전 행은 변경으로 보고 다시 쓴다.
+     * API ID는 source + method + path로 정해지므로 다시 저장해도 같은 operation은 같은 ID를 유지한다.
+     *
+     * 엔드포인트는 파서가 넘기는 대로 하나씩 해시 계산 후 저장하고 목록으로 모으지 않는다.
+     * 영속성 컨텍스트도 FLUSH_INTERVAL개마다 비우므로, operation 수에 비례해 남는 것은 이전 행(ApiEndpoint), operation별 섹션 해시와 사용 중인 ID뿐이다.
+     * 파싱이 저장 트랜잭션 안에서 진행되므로 동기화하는 동안 DB 커넥션 1개를 계속 쓴다. (동기화는 sync bulkhead로 1개씩)
      *
-     * @param endpoints 파싱된 API 엔드포인트 리스트
-     * @param swaggerUrl Swagger URL
+     * @param swaggerUrl Swagger URL 또는 file:// 경로 (source)
      * @param swaggerVersion Swagger 버전
+     * @param endpoints 파싱된 API 엔드포인트 공급자
+     * @return 엔드포인트 수, 테이블별 저장 row 수와 이전 동기화 대비 변경 내역
      */
     @Transactional
-    public void syncAll(final List<ParsedApiEndpoint> endpoints, final String swaggerUrl, final String swaggerVersion) {
-        log.info("전체 동기화 시작: {} 엔드포인트", endpoints.size());
+    public SyncPersistResult sync(final String swaggerUrl, final String swaggerVersion, final EndpointSource endpoints) {
+        log.info("증분 동기화 시작: {}", swaggerUrl);
+
+        // 1. 이전 동기화의 operation별 행과 해시
+        // source 컬럼이 없던 행은 이번에 동기화하는 source의 것으로 본다. 같은 operation이 둘 다 있으면 source가 있는 행을 쓰고 나머지는 지운다.
+        // 새 ID가 이 source의 기존 ID와도 겹치지 않도록 함께 사용 중으로 둔다
+        final Set<Long> usedIds = apiEndpointRepository.findIdsBySourceNot(swaggerUrl);
+        final Map<String, ApiEndpoint> previousByKey = new HashMap<>();
+        final List<ApiEndpoint> stale = new ArrayList<>();
+        for (final ApiEndpoint endpoint : apiEndpointRepository.findBySourceOrSourceIsNull(swaggerUrl)) {
+            usedIds.add(endpoint.getId());
+            final String key = ContentHashSupport.operationKey(swaggerUrl, endpoint.getMethod(), endpoint.getPath());
+            final ApiEndpoint existing = previousByKey.get(key);
+            if (existing == null || existing.getSource() == null && endpoint.getSource() != null) {
+                if (existing != null) {
+                    stale.add(existing);
+                }
+                previousByKey.put(key, endpoint);
+            } else {
+                stale.add(endpoint);
+            }
+        }
+        final Map<String, Map<String, String>> previousHashes = new HashMap<>();
+        previousByKey.forEach((key, endpoint) -> previousHashes.put(key, endpoint.getContentHashes()));
+        final String previousVersion = swaggerMetadataRepository.findFirstByBackendUrlOrderByIdDesc(swaggerUrl)
+                .map(SwaggerMetadata::getSwaggerVersion)
+                .orElse(null);
+
+        // 2. 추가되거나 바뀐 operation만 저장
+        final Map<String, Integer> rowsWritten = new LinkedHashMap<>();
+        final Map<String, Map<String, String>> currentHashes = new LinkedHashMap<>();
+        endpoints.forEach(parsedEndpoint -> {
+            final String key = ContentHashSupport.operationKey(swaggerUrl, parsedEndpoint.method(), parsedEndpoint.path());
+            final Map<String, String> contentHashes = contentHashSupport.hashSections(parsedEndpoint);
+            currentHashes.put(key, contentHashes);
+
+            final ApiEndpoint previous = previousByKey.remove(key);
+            if (previous != null && previous.getSource() != null && contentHashes.equals(previous.getContentHashes())) {
+                return;
+            }
+
+            final long id;
+            if (previous == null) {
+                id = allocateId(parsedEndpoint, swaggerUrl, usedIds);
+            } else {
+                id = previous.getId();
+                delete(List.of(previous));
+            }
+            saveApiEndpoint(id, parsedEndpoint, swaggerUrl, contentHashes, rowsWritten);
+            if (rowsWritten.get("api_endpoints") % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        });
 
-        // 1. 기존 데이터 삭제
-        deleteAll();
+        // 3. 문서에서 사라진 operation 삭제
+        stale.addAll(previousByKey.values());
+        delete(stale);
 
-        // 2. API 엔드포인트 저장
-        int savedCount = 0;
-        for (final ParsedApiEndpoint parsedEndpoint : endpoints) {
-            saveApiEndpoint(parsedEndpoint);
-            savedCount++;
+        // 4. 변경 내역 기록 (변경이 없으면 남기지 않음)
+        final SpecChangeSet changes = contentHashSupport.diff(previousHashes, currentHashes);
+        if (!changes.isEmpty()) {
+            saveChangeLog(swaggerUrl, swaggerVersion, previousVersion, changes);
+            rowsWritten.merge("spec_change_logs", 1, Integer::sum);
         }
 
-        // 3. 메타데이터 업데이트
-        updateMetadata(swaggerUrl, swaggerVersion, savedCount);
+        // 5. 메타데이터 업데이트
+        final int endpointCount = currentHashes.size();
+        updateMetadata(swaggerUrl, swaggerVersion, endpointCount);
+        rowsWritten.merge("swagger_metadata", 1, Integer::sum);
+
+        rowsWritten.forEach(syncMetrics::recordPersistedRows);
 
-        log.info("전체 동기화 완료: {} 엔드포인트 저장됨", savedCount);
+        log.info("증분 동기화 완료: {} 엔드포인트 (추가 {}, 삭제 {}, 변경 {}, 유지 {})", endpointCount,
+                changes.added().size(), changes.removed().size(), changes.modified().size(), changes.unchanged());
+        return new SyncPersistResult(endpointCount, rowsWritten, changes);
     }
 
     /**
-     * 기존 데이터 전체 삭제
+     * operation의 고정 API ID 할당
+     * 52비트 해시가 드물게 겹치면 다음 ID로 넘어간다. (동기화 순서가 같으면 결과도 같음)
      */
-    private void deleteAll() {
-        log.info("기존 데이터 삭제 중...");
-        errorResponseRepository.deleteAllInBatch();
-        responseSchemaRepository.deleteAllInBatch();
-        parameterRepository.deleteAllInBatch();
-        requestSchemaRepository.deleteAllInBatch();
-        apiEndpointRepository.deleteAllInBatch();
-        log.info("기존 데이터 삭제 완료");
+    private long allocateId(final ParsedApiEndpoint parsedEndpoint, final String source, final Set<Long> usedIds) {
+        long id = ContentHashSupport.endpointId(source, parsedEndpoint.method(), parsedEndpoint.path());
+        while (!usedIds.add(id)) {
+            log.warn("API ID 충돌, 다음 ID 사용: {} {} ({})", parsedEndpoint.method(), parsedEndpoint.path(), id);
+            id = ContentHashSupport.nextEndpointId(id);
+        }
+        return id;
+    }
+
+    /**
+     * 스펙 변경 내역 저장
+     */
+    private void saveChangeLog(final String swaggerUrl, final String swaggerVersion, final String previousVersion,
+                               final SpecChangeSet changes) {
+        final SpecChangeLog changeLog = SpecChangeLog.builder()
+                .syncedAt(LocalDateTime.now())
+                .backendUrl(swaggerUrl)
+                .swaggerVersion(swaggerVersion)
+                .previousSwaggerVersion(previousVersion)
+                .added(changes.added())
+                .removed(changes.removed())
+                .modified(changes.modified())
+                .unchangedCount(changes.unchanged())
+                .build();
+
+        specChangeLogRepository.save(changeLog);
+    }
+
+    /**
+     * operation의 기존 데이터 삭제
+     * API 일괄 삭제가 영속성 컨텍스트를 비우므로 아직 쓰지 않은 저장분을 먼저 flush한다.
+     */
+    private void delete(final List<ApiEndpoint> endpoints) {
+        if (endpoints.isEmpty()) {
+            return;
+        }
+
+        log.debug("기존 데이터 삭제 중: {} 엔드포인트", endpoints.size());
+        entityManager.flush();
+        final List<Long> ids = endpoints.stream().map(ApiEndpoint::getId).toList();
+        errorResponseRepository.deleteByApiEndpointIdIn(ids);
+        responseSchemaRepository.deleteByApiEndpointIdIn(ids);
+        parameterRepository.deleteByApiEndpointIdIn(ids);
+        requestSchemaRepository.deleteByApiEndpointIdIn(ids);
+        apiEndpointRepository.deleteByIdIn(ids);
     }
 
     /**
      * API 엔드포인트 및 관련 데이터 저장
      */
-    private void saveApiEndpoint(final ParsedApiEndpoint parsedEndpoint) {
+    private void saveApiEndpoint(final long id, final ParsedApiEndpoint parsedEndpoint, final String source,
+                                 final Map<String, String> contentHashes, final Map<String, Integer> rowsWritten) {
         // 1. API 엔드포인트 저장
         final ApiEndpoint apiEndpoint = ApiEndpoint.builder()
+                .id(id)
+                .source(source)
                 .path(parsedEndpoint.path())
                 .method(parsedEndpoint.method())
                 .operationId(parsedEndpoint.operationId())
                 .summary(parsedEndpoint.summary())
                 .description(parsedEndpoint.description())
                 .tags(parsedEndpoint.tags())
+                .statusCodes(collectStatusCodes(parsedEndpoint))
+                .contentHashes(contentHashes)
                 .build();
 
         final ApiEndpoint savedEndpoint = apiEndpointRepository.save(apiEndpoint);
         log.debug("API 엔드포인트 저장: {} {}", savedEndpoint.getMethod(), savedEndpoint.getPath());
+        rowsWritten.merge("api_endpoints", 1, Integer::sum);
 
         // 2. Request Body 저장 (있는 경우만)
         if (parsedEndpoint.requestBody() != null) {
-            saveRequestBody(savedEndpoint.getId(), parsedEndpoint.requestBody());
+            rowsWritten.merge("request_schemas", saveRequestBody(savedEndpoint.getId(), parsedEndpoint.requestBody()), Integer::sum);
         }
 
         // 3. Parameters 저장
         if (parsedEndpoint.parameters() != null && !parsedEndpoint.parameters().isEmpty()) {
-            saveParameters(savedEndpoint.getId(), parsedEndpoint.parameters());
+            rowsWritten.merge("parameters", saveParameters(savedEndpoint.getId(), parsedEndpoint.parameters()), Integer::sum);
         }
 
         // 4. Response Schemas 저장
         if (parsedEndpoint.responseSchemas() != null && !parsedEndpoint.responseSchemas().isEmpty()) {
-            saveResponseSchemas(savedEndpoint.getId(), parsedEndpoint.responseSchemas());
+            rowsWritten.merge("response_schemas", saveResponseSchemas(savedEndpoint.getId(), parsedEndpoint.responseSchemas()), Integer::sum);
         }
 
         // 5. Error Responses 저장
         if (parsedEndpoint.errorResponses() != null && !parsedEndpoint.errorResponses().isEmpty()) {
-            saveErrorResponses(savedEndpoint.getId(), parsedEndpoint.errorResponses());
+            rowsWritten.merge("error_responses", saveErrorResponses(savedEndpoint.getId(), parsedEndpoint.errorResponses()), Integer::sum);
+        }
+    }
+
+    /**
+     * 엔드포인트가 응답할 수 있는 상태 코드 수집
+     * schema가 없는 응답(201, 204 등)은 response_schemas에 저장되지 않으므로 엔드포인트에 따로 기록한다.
+     */
+    private List<Integer> collectStatusCodes(final ParsedApiEndpoint parsedEndpoint) {
+        final TreeSet<Integer> statusCodes = new TreeSet<>();
+        if (parsedEndpoint.responseSchemas() != null) {
+            parsedEndpoint.responseSchemas().stream()
+                    .map(ParsedResponseSchema::statusCode)
+                    .filter(Objects::nonNull)
+                    .forEach(statusCodes::add);
+        }
+        if (parsedEndpoint.errorResponses() != null) {
+            parsedEndpoint.errorResponses().stream()
+                    .map(ParsedErrorResponse::statusCode)
+                    .filter(Objects::nonNull)
+                    .forEach(statusCodes::add);
         }
+        return List.copyOf(statusCodes);
     }
 
     /**
      * Request Body 저장
+     *
+     * @return 저장된 row 수
      */
-    private void saveRequestBody(final Long apiEndpointId, final ParsedRequestBody requestBody) {
+    private int saveRequestBody(final Long apiEndpointId, final ParsedRequestBody requestBody) {
         try {
             final Map<String, Object> schemaMap = convertJsonStringToMap(requestBody.schemaJson());
             final Map<String, Object> exampleMap = convertJsonStringToMap(requestBody.exampleJson());
@@ -138,19 +308,24 @@ public class SwaggerSyncService {
                     .dtoName(requestBody.dtoName())
                     .schemaJson(schemaMap)
                     .exampleJson(exampleMap)
+                    .referencedDtos(requestBody.referencedDtos())
                     .build();
 
             requestSchemaRepository.save(requestSchema);
             log.debug("Request Body 저장: {}", requestBody.dtoName());
+            return 1;
         } catch (Exception e) {
             log.error("Request Body 저장 실패: {}", requestBody.dtoName(), e);
+            return 0;
         }
     }
 
     /**
      * Parameters 저장
+     *
+     * @return 저장된 row 수
      */
-    private void saveParameters(final Long apiEndpointId, final List<ParsedParameter> parameters) {
+    private int saveParameters(final Long apiEndpointId, final List<ParsedParameter> parameters) {
         for (final ParsedParameter param : parameters) {
             final Parameter parameter = Parameter.builder()
                     .apiEndpointId(apiEndpointId)
@@ -165,12 +340,16 @@ public class SwaggerSyncService {
             parameterRepository.save(parameter);
         }
         log.debug("Parameters 저장: {} 개", parameters.size());
+        return parameters.size();
     }
 
     /**
      * Response Schemas 저장
+     *
+     * @return 저장된 row 수
      */
-    private void saveResponseSchemas(final Long apiEndpointId, final List<ParsedResponseSchema> responseSchemas) {
+    private int saveResponseSchemas(final Long apiEndpointId, final List<ParsedResponseSchema> responseSchemas) {
+        int savedCount = 0;
         for (final ParsedResponseSchema response : responseSchemas) {
             try {
                 final Map<String, Object> schemaMap = convertJsonStringToMap(response.schemaJson());
@@ -189,20 +368,26 @@ public class SwaggerSyncService {
                         .dtoName(response.dtoName())
                         .schemaJson(schemaMap)
                         .exampleJson(exampleMap)
+                        .referencedDtos(response.referencedDtos())
                         .build();
 
                 responseSchemaRepository.save(responseSchema);
+                savedCount++;
                 log.debug("Response Schema 저장: {} ({})", response.dtoName(), response.statusCode());
             } catch (Exception e) {
                 log.error("Response Schema 저장 실패: {} ({})", response.dtoName(), response.statusCode(), e);
             }
         }
+        return savedCount;
     }
 
     /**
      * Error Responses 저장
+     *
+     * @return 저장된 row 수
      */
-    private void saveErrorResponses(final Long apiEndpointId, final List<ParsedErrorResponse> errorResponses) {
+    private int saveErrorResponses(final Long apiEndpointId, final List<ParsedErrorResponse> errorResponses) {
+        int savedCount = 0;
         for (final ParsedErrorResponse error : errorResponses) {
             try {
                 final Map<String, Object> schemaMap = convertJsonStringToMap(error.schemaJson());
@@ -218,22 +403,25 @@ public class SwaggerSyncService {
                         .description(error.description())
                         .schemaJson(schemaMap)
                         .errors(error.errors())
+                        .referencedDtos(error.referencedDtos())
                         .build();
 
                 errorResponseRepository.save(errorResponse);
+                savedCount++;
                 log.debug("Error Response 저장: {} ({})", error.code(), error.statusCode());
             } catch (Exception e) {
                 log.error("Error Response 저장 실패: {} ({})", error.code(), error.statusCode(), e);
             }
         }
+        return savedCount;
     }
 
     /**
      * Swagger 메타데이터 업데이트
      */
     private void updateMetadata(final String swaggerUrl, final String swaggerVersion, final int apiCount) {
-        // 기존 메타데이터가 있으면 삭제하고 새로 생성
-        swaggerMetadataRepository.deleteAll();
+        // 같은 source의 기존 메타데이터가 있으면 삭제하고 새로 생성
+        swaggerMetadataRepository.deleteByBackendUrl(swaggerUrl);
 
         final SwaggerMetadata metadata = SwaggerMetadata.builder()
                 .lastSyncedAt(LocalDateTime.now())
@@ -0,0 +1,114 @@
+package com.ndgl.swaggermcp.sync.application.service;
+
+import com.ndgl.swaggermcp.persistence.entity.SyncHistory;
+import com.ndgl.swaggermcp.persistence.repository.SyncHistoryRepository;
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncResult;
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncStats;
+import com.ndgl.swaggermcp.sync.dto.SyncHistoryResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 동기화 이력 저장/조회 서비스
+ * 동기화 성공/실패와 관계없이 단계별 통계를 남겨 스펙별 동기화 성능 추이를 비교할 수 있게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncHistoryService {
+
+    private final SyncHistoryRepository syncHistoryRepository;
+
+    /**
+     * 동기화 결과를 이력으로 저장
+     *
+     * @param swaggerUrl Swagger URL
+     * @param result 동기화 결과
+     */
+    @Transactional
+    public void record(final String swaggerUrl, final SwaggerSyncResult result) {
+        final SwaggerSyncStats stats = result.stats();
+
+        final SyncHistory history = SyncHistory.builder()
+                .syncedAt(LocalDateTime.now())
+                .backendUrl(swaggerUrl)
+                .swaggerVersion(result.swaggerVersion())
+                .success(result.success())
+                .message(result.message())
+                .totalEndpoints(result.totalEndpoints())
+                .totalMillis(stats.totalMillis())
+                .fetchMillis(stats.fetchMillis())
+                .parseMillis(stats.parseMillis())
+                .resolveMillis(stats.resolveMillis())
+                .persistMillis(stats.persistMillis())
+                .documentBytes(stats.documentBytes())
+                .refExpansions(stats.refExpansions())
+                .largestSchemaBytes(stats.largestSchemaBytes())
+                .largestSchemaName(stats.largestSchemaName())
+                .expandedBytes(stats.expandedBytes())
+                .truncations(stats.truncations())
+                .rowsWritten(stats.rowsWritten())
+                .peakHeapDeltaBytes(stats.peakHeapDeltaBytes())
+                .build();
+
+        syncHistoryRepository.save(history);
+        log.debug("동기화 이력 저장: {} ({}ms)", swaggerUrl, stats.totalMillis());
+    }
+
+    /**
+     * 최근 동기화 이력 조회
+     *
+     * @param swaggerUrl Swagger URL (null이면 전체)
+     * @param limit 최대 조회 건수
+     * @return 최신순 동기화 이력
+     */
+    @Transactional(readOnly = true)
+    public List<SyncHistoryResult> findRecent(final String swaggerUrl, final int limit) {
+        final PageRequest page = PageRequest.of(0, limit);
+        final List<SyncHistory> histories = swaggerUrl == null || swaggerUrl.isBlank()
+                ? syncHistoryRepository.findAllByOrderByIdDesc(page)
+                : syncHistoryRepository.findByBackendUrlOrderByIdDesc(swaggerUrl, page);
+
+        return histories.stream()
+                .map(this::toResult)
+                .toList();
+    }
+
+    private SyncHistoryResult toResult(final SyncHistory history) {
+        final SwaggerSyncStats stats = new SwaggerSyncStats(
+                history.getTotalMillis(),
+                history.getFetchMillis(),
+                history.getParseMillis(),
+                history.getResolveMillis(),
+                history.getPersistMillis(),
+                history.getDocumentBytes(),
+                history.getRefExpansions(),
+                history.getLargestSchemaBytes(),
+                history.getLargestSchemaName(),
+                history.getExpandedBytes(),
+                history.getTruncations(),
+                history.getRowsWritten(),
+                history.getPeakHeapDeltaBytes()
+        );
+
+        return new SyncHistoryResult(
+                history.getId(),
+                history.getSyncedAt(),
+                history.getBackendUrl(),
+                new SwaggerSyncResult(
+                        history.getSuccess(),
+                        history.getMessage(),
+                        history.getTotalEndpoints(),
+                        history.getSwaggerVersion(),
+                        stats
+                )
+        );
+    }
+}
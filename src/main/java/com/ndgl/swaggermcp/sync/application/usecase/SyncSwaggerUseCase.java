@@ -1,18 +1,33 @@
 package com.ndgl.swaggermcp.sync.application.usecase;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.ndgl.swaggermcp.common.concurrency.BulkheadFullException;
+import com.ndgl.swaggermcp.common.concurrency.Bulkheads;
+import com.ndgl.swaggermcp.common.jfr.SwaggerSyncEvent;
+import com.ndgl.swaggermcp.sync.dto.SpecChangeSet;
+import com.ndgl.swaggermcp.sync.dto.SwaggerDirectorySyncResult;
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncCompletedEvent;
 import com.ndgl.swaggermcp.sync.dto.SwaggerSyncResult;
-import com.ndgl.swaggermcp.sync.dto.ParsedApiEndpoint;
+import com.ndgl.swaggermcp.sync.dto.SyncHistoryResult;
+import com.ndgl.swaggermcp.sync.dto.SyncPersistResult;
 import com.ndgl.swaggermcp.sync.application.service.SwaggerExtractorService;
 import com.ndgl.swaggermcp.sync.application.service.SwaggerFetchService;
 import com.ndgl.swaggermcp.sync.application.service.SwaggerParserService;
 import com.ndgl.swaggermcp.sync.application.service.SwaggerSyncService;
+import com.ndgl.swaggermcp.sync.application.service.SyncHistoryService;
+import com.ndgl.swaggermcp.sync.support.LocalSpecReader;
+import com.ndgl.swaggermcp.sync.support.SpecDocument;
+import com.ndgl.swaggermcp.sync.support.SyncMetrics;
+import com.ndgl.swaggermcp.sync.support.SyncStatistics;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Swagger 통합 Facade
@@ -27,45 +42,223 @@ public class SyncSwaggerUseCase {
     private final SwaggerParserService swaggerParserService;
     private final SwaggerExtractorService swaggerExtractorService;
     private final SwaggerSyncService swaggerSyncService;
+    private final SyncHistoryService syncHistoryService;
+    private final LocalSpecReader localSpecReader;
+    private final SyncMetrics syncMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Bulkheads bulkheads;
 
     /**
      * Swagger JSON을 가져와서 파싱 후 DB에 저장
      *
-     * @param swaggerUrl Swagger JSON URL
-     * @return 동기화 결과
+     * @param swaggerUrl Swagger JSON URL 또는 file:// 경로
+     * @return 동기화 결과 (단계별 통계 포함)
      */
     public SwaggerSyncResult syncSwagger(final String swaggerUrl) {
+        final String source;
+        try {
+            source = localSpecReader.canonicalize(swaggerUrl);
+        } catch (IllegalArgumentException e) {
+            log.warn("Swagger 동기화 거부 - {}", e.getMessage());
+            return failure("동기화 실패: " + e.getMessage());
+        }
+
+        // 동기화는 한도(기본 1개)만큼만 동시에 실행하고, 초과 요청은 기다리지 않고 거부한다
+        final Bulkheads.Permit permit;
+        try {
+            permit = bulkheads.enterSync();
+        } catch (BulkheadFullException e) {
+            log.warn("Swagger 동기화 거부 - 이미 진행 중: {}", source);
+            return failure("동기화 실패: 이미 다른 동기화가 진행 중입니다");
+        }
+
+        try (permit) {
+            final SyncOutcome outcome = doSyncSwagger(source);
+            if (outcome.result().success()) {
+                publishCompleted(source, outcome.result().swaggerVersion(), outcome.result().totalEndpoints(), outcome.changes());
+            }
+            return outcome.result();
+        }
+    }
+
+    /**
+     * 디렉터리 바로 아래의 *.json 스펙을 한 번에 동기화
+     * 파일마다 별도 source로 저장하고(실패한 파일은 기존 데이터 유지), 검색 인덱스 재구성 등 후속 작업은 마지막에 한 번만 한다.
+     *
+     * @param directoryUrl file:// 디렉터리 경로
+     * @return 파일별 동기화 결과
+     */
+    public SwaggerDirectorySyncResult syncDirectory(final String directoryUrl) {
+        final List<String> sources;
+        try {
+            sources = localSpecReader.listSpecs(directoryUrl);
+        } catch (Exception e) {
+            log.warn("디렉터리 동기화 거부 - {}: {}", directoryUrl, e.getMessage());
+            return new SwaggerDirectorySyncResult(false, "동기화 실패: " + e.getMessage(), 0, Map.of());
+        }
+
+        final Bulkheads.Permit permit;
+        try {
+            permit = bulkheads.enterSync();
+        } catch (BulkheadFullException e) {
+            log.warn("디렉터리 동기화 거부 - 이미 진행 중: {}", directoryUrl);
+            return new SwaggerDirectorySyncResult(false, "동기화 실패: 이미 다른 동기화가 진행 중입니다", 0, Map.of());
+        }
+
+        try (permit) {
+            log.info("디렉터리 동기화 시작: {} ({} 스펙)", directoryUrl, sources.size());
+            final Map<String, SwaggerSyncResult> results = new LinkedHashMap<>();
+            SpecChangeSet changes = SpecChangeSet.empty();
+            int totalEndpoints = 0;
+            int failed = 0;
+            for (final String source : sources) {
+                final SyncOutcome outcome = doSyncSwagger(source);
+                results.put(source, outcome.result());
+                if (outcome.result().success()) {
+                    totalEndpoints += outcome.result().totalEndpoints();
+                    changes = changes.merge(outcome.changes());
+                } else {
+                    failed++;
+                }
+            }
+
+            if (failed < sources.size()) {
+                publishCompleted(directoryUrl, null, totalEndpoints, changes);
+            }
+            log.info("디렉터리 동기화 완료: {} 스펙 중 {} 실패, {} 엔드포인트", sources.size(), failed, totalEndpoints);
+
+            final String message = sources.isEmpty()
+                    ? "동기화할 스펙(*.json)이 없습니다"
+                    : failed == 0 ? "동기화 성공" : "동기화 일부 실패: " + failed + "/" + sources.size();
+            return new SwaggerDirectorySyncResult(failed == 0, message, totalEndpoints, results);
+        }
+    }
+
+    private SyncOutcome doSyncSwagger(final String swaggerUrl) {
         log.info("Swagger 동기화 시작: {}", swaggerUrl);
+        final SyncStatistics statistics = new SyncStatistics();
+        final SwaggerSyncEvent event = new SwaggerSyncEvent();
+        event.begin();
 
+        SwaggerSyncResult result;
+        SpecChangeSet changes = SpecChangeSet.empty();
         try {
-            // 1. Swagger JSON 다운로드
-            final JsonNode swaggerJson = swaggerFetchService.fetchSwaggerJson(swaggerUrl);
+            // 1. Swagger 문서 다운로드 (file://는 mmap)
+            long stageStart = System.nanoTime();
+            final SpecDocument document = swaggerFetchService.fetchSwaggerDocument(swaggerUrl, statistics);
+            long elapsed = System.nanoTime() - stageStart;
+            statistics.recordFetch(elapsed);
+            syncMetrics.recordStage(swaggerUrl, "fetch", elapsed);
 
-            // 2. 버전 추출
+            // 2. 최상위 JSON 읽기 (큰 문서는 components만) 및 버전 추출
+            stageStart = System.nanoTime();
+            final JsonNode swaggerJson = swaggerParserService.readRoot(document);
             final String swaggerVersion = swaggerExtractorService.extractVersion(swaggerJson);
+            final long readRootNanos = System.nanoTime() - stageStart;
 
-            // 3. 파싱
-            final List<ParsedApiEndpoint> endpoints = swaggerParserService.parseApiEndpoints(swaggerJson);
+            // 3~4. 파싱하면서 operation을 하나씩 DB에 저장 (큰 문서는 paths를 스트리밍으로 다시 읽음)
+            // 두 단계가 번갈아 실행되므로 저장에 쓴 시간을 빼서 parse 시간을 따로 잰다
+            final long[] parseNanos = {0};
+            stageStart = System.nanoTime();
+            final SyncPersistResult persisted = swaggerSyncService.sync(swaggerUrl, swaggerVersion, consumer -> {
+                final long[] persistNanos = {0};
+                final long parseStart = System.nanoTime();
+                swaggerParserService.parseApiEndpoints(document, swaggerJson, statistics, endpoint -> {
+                    final long persistStart = System.nanoTime();
+                    consumer.accept(endpoint);
+                    persistNanos[0] += System.nanoTime() - persistStart;
+                });
+                parseNanos[0] = System.nanoTime() - parseStart - persistNanos[0];
+            });
+            final long persistElapsed = System.nanoTime() - stageStart - parseNanos[0];
+            elapsed = readRootNanos + parseNanos[0];
+            statistics.recordParse(elapsed);
+            syncMetrics.recordStage(swaggerUrl, "parse", elapsed);
+            statistics.recordPersist(persistElapsed, persisted.rowsWritten());
+            changes = persisted.changes();
+            syncMetrics.recordStage(swaggerUrl, "persist", persistElapsed);
 
-            // 4. DB 저장
-            swaggerSyncService.syncAll(endpoints, swaggerUrl, swaggerVersion);
+            log.info("Swagger 동기화 완료: {} 엔드포인트 ({}ms)", persisted.endpoints(), statistics.totalMillis());
 
-            log.info("Swagger 동기화 완료: {} 엔드포인트", endpoints.size());
+            // 확장 예산 초과로 잘린 $ref가 있으면 성공이어도 결과에 드러냄
+            String message = "동기화 성공";
+            if (!statistics.truncations().isEmpty()) {
+                log.warn("$ref 확장 예산 초과로 일부 schema 생략: {} {}", swaggerUrl, statistics.truncations());
+                message += " ($ref 확장 예산 초과로 일부 schema 생략: " + statistics.truncations() + ")";
+            }
 
-            return new SwaggerSyncResult(
+            result = new SwaggerSyncResult(
                 true,
-                "동기화 성공",
-                endpoints.size(),
-                swaggerVersion
+                message,
+                persisted.endpoints(),
+                swaggerVersion,
+                statistics.toStats()
             );
         } catch (Exception e) {
             log.error("Swagger 동기화 실패: {}", swaggerUrl, e);
-            return new SwaggerSyncResult(
+            result = new SwaggerSyncResult(
                 false,
                 "동기화 실패: " + e.getMessage(),
                 0,
-                null
+                null,
+                statistics.toStats()
             );
         }
+
+        commitEvent(event, swaggerUrl, result);
+        recordHistory(swaggerUrl, result);
+        return new SyncOutcome(result, changes);
+    }
+
+    /**
+     * 검색 인덱스 등 동기화 결과를 쓰는 쪽에 알림
+     */
+    private void publishCompleted(final String source, final String swaggerVersion, final int totalEndpoints,
+                                  final SpecChangeSet changes) {
+        eventPublisher.publishEvent(new SwaggerSyncCompletedEvent(source, swaggerVersion, totalEndpoints, changes));
+    }
+
+    private SwaggerSyncResult failure(final String message) {
+        return new SwaggerSyncResult(false, message, 0, null, new SyncStatistics().toStats());
+    }
+
+    /**
+     * 최근 동기화 이력 조회
+     *
+     * @param swaggerUrl Swagger URL (null이면 전체)
+     * @param limit 최대 조회 건수
+     * @return 최신순 동기화 이력
+     */
+    public List<SyncHistoryResult> getSyncHistory(final String swaggerUrl, final int limit) {
+        return syncHistoryService.findRecent(swaggerUrl, limit);
+    }
+
+    private void commitEvent(final SwaggerSyncEvent event, final String swaggerUrl, final SwaggerSyncResult result) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = swaggerUrl;
+            event.success = result.success();
+            event.endpoints = result.totalEndpoints();
+            event.documentBytes = result.stats().documentBytes();
+            event.refExpansions = result.stats().refExpansions();
+            event.commit();
+        }
+    }
+
+    /**
+     * 이력 저장 실패가 동기화 결과를 바꾸지 않도록 예외를 삼킨다
+     */
+    private void recordHistory(final String swaggerUrl, final SwaggerSyncResult result) {
+        try {
+            syncHistoryService.record(swaggerUrl, result);
+        } catch (Exception e) {
+            log.warn("동기화 이력 저장 실패: {}", swaggerUrl, e);
+        }
+    }
+
+    /**
+     * source 1개의 동기화 결과와 변경 내역 (이벤트 발행은 호출한 쪽에서)
+     */
+    private record SyncOutcome(SwaggerSyncResult result, SpecChangeSet changes) {
     }
 }
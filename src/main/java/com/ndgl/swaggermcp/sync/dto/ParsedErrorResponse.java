@@ -15,6 +15,11 @@ public record ParsedErrorResponse(
         String message,
         String description,
         String schemaJson,
-        List<Map<String, Object>> errors
+        List<Map<String, Object>> errors,
+
+        /**
+         * 참조 DTO 이름 → 최소 중첩 깊이 (0 = body 자체, 1 = body의 property / items)
+         */
+        Map<String, Integer> referencedDtos
 ) {
 }
@@ -1,5 +1,7 @@
 package com.ndgl.swaggermcp.sync.dto;
 
+import java.util.Map;
+
 /**
  * 파싱된 Request Body 정보
  * (POST, PUT, PATCH 등에서 사용)
@@ -9,6 +11,11 @@ public record ParsedRequestBody(
         String schemaJson,
         String exampleJson,
         Boolean required,
-        String contentType
+        String contentType,
+
+        /**
+         * 참조 DTO 이름 → 최소 중첩 깊이 (0 = body 자체, 1 = body의 property / items)
+         */
+        Map<String, Integer> referencedDtos
 ) {
 }
@@ -1,5 +1,7 @@
 package com.ndgl.swaggermcp.sync.dto;
 
+import java.util.Map;
+
 /**
  * 파싱된 Response Schema 정보
  */
@@ -9,6 +11,11 @@ public record ParsedResponseSchema(
         String schemaJson,
         String exampleJson,
         String description,
-        String contentType
+        String contentType,
+
+        /**
+         * 참조 DTO 이름 → 최소 중첩 깊이 (0 = body 자체, 1 = body의 property / items)
+         */
+        Map<String, Integer> referencedDtos
 ) {
 }
@@ -0,0 +1,43 @@
+package com.ndgl.swaggermcp.sync.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이전 동기화 대비 스펙 변경 내역 (operation 키: "sourceId METHOD path")
+ */
+public record SpecChangeSet(
+        List<String> added,
+        List<String> removed,
+
+        /**
+         * 변경된 operation → 변경 섹션 (info, request, parameters, response.200, error.404 등)
+         */
+        Map<String, List<String>> modified,
+
+        int unchanged
+) {
+
+    public static SpecChangeSet empty() {
+        return new SpecChangeSet(List.of(), List.of(), Map.of(), 0);
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && modified.isEmpty();
+    }
+
+    /**
+     * 여러 source를 한 번에 동기화했을 때 변경 내역 합치기
+     */
+    public SpecChangeSet merge(final SpecChangeSet other) {
+        final List<String> mergedAdded = new ArrayList<>(added);
+        mergedAdded.addAll(other.added());
+        final List<String> mergedRemoved = new ArrayList<>(removed);
+        mergedRemoved.addAll(other.removed());
+        final Map<String, List<String>> mergedModified = new LinkedHashMap<>(modified);
+        mergedModified.putAll(other.modified());
+        return new SpecChangeSet(mergedAdded, mergedRemoved, mergedModified, unchanged + other.unchanged());
+    }
+}
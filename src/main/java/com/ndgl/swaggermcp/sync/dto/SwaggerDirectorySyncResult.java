@@ -0,0 +1,26 @@
+package com.ndgl.swaggermcp.sync.dto;
+
+import java.util.Map;
+
+/**
+ * 디렉터리 동기화 결과
+ */
+public record SwaggerDirectorySyncResult(
+        /**
+         * 모든 스펙 동기화 성공 여부
+         */
+        Boolean success,
+
+        String message,
+
+        /**
+         * 성공한 스펙의 엔드포인트 수 합계
+         */
+        Integer totalEndpoints,
+
+        /**
+         * 파일별 file:// source → 동기화 결과 (이름순)
+         */
+        Map<String, SwaggerSyncResult> results
+) {
+}
@@ -0,0 +1,17 @@
+package com.ndgl.swaggermcp.sync.dto;
+
+/**
+ * Swagger 동기화 성공 이벤트
+ * DB 저장 트랜잭션이 커밋된 뒤 발행되므로, 리스너는 새 데이터를 바로 읽을 수 있다.
+ */
+public record SwaggerSyncCompletedEvent(
+        String swaggerUrl,
+        String swaggerVersion,
+        Integer totalEndpoints,
+
+        /**
+         * 이전 동기화 대비 변경 내역 (변경된 operation만 무효화할 때 사용)
+         */
+        SpecChangeSet changes
+) {
+}
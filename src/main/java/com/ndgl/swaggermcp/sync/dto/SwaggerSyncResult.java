@@ -7,6 +7,7 @@ public record SwaggerSyncResult(
         Boolean success,
         String message,
         Integer totalEndpoints,
-        String swaggerVersion
+        String swaggerVersion,
+        SwaggerSyncStats stats
 ) {
 }
@@ -0,0 +1,74 @@
+package com.ndgl.swaggermcp.sync.dto;
+
+import java.util.Map;
+
+/**
+ * Swagger 동기화 단계별 소요 시간 및 크기 통계
+ */
+public record SwaggerSyncStats(
+        /**
+         * 전체 소요 시간 (ms)
+         */
+        Long totalMillis,
+
+        /**
+         * Swagger JSON 다운로드 시간 (ms)
+         */
+        Long fetchMillis,
+
+        /**
+         * 파싱 시간 (ms, $ref 해석 시간 포함)
+         */
+        Long parseMillis,
+
+        /**
+         * 파싱 중 $ref 해석에 쓴 시간 (ms)
+         */
+        Long resolveMillis,
+
+        /**
+         * DB 저장 시간 (ms)
+         */
+        Long persistMillis,
+
+        /**
+         * Swagger 문서 크기 (bytes)
+         */
+        Long documentBytes,
+
+        /**
+         * $ref 확장 횟수
+         */
+        Integer refExpansions,
+
+        /**
+         * 확장 후 가장 큰 schema JSON 크기 (bytes)
+         */
+        Integer largestSchemaBytes,
+
+        /**
+         * 가장 큰 schema 위치 (예: POST /api/v1/travels response 200)
+         */
+        String largestSchemaName,
+
+        /**
+         * 확장된 schema JSON 전체 크기 (bytes)
+         */
+        Long expandedBytes,
+
+        /**
+         * 확장 예산 초과로 잘린 $ref 수 (사유: depth / nodes / bytes)
+         */
+        Map<String, Integer> truncations,
+
+        /**
+         * 테이블별 저장 row 수
+         */
+        Map<String, Integer> rowsWritten,
+
+        /**
+         * 동기화 중 힙 사용량 최대 증가분 (bytes, 단계 경계에서 샘플링한 근사값)
+         */
+        Long peakHeapDeltaBytes
+) {
+}
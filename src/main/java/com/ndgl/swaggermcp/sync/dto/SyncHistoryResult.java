@@ -0,0 +1,14 @@
+package com.ndgl.swaggermcp.sync.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 동기화 이력
+ */
+public record SyncHistoryResult(
+        Long id,
+        LocalDateTime syncedAt,
+        String backendUrl,
+        SwaggerSyncResult result
+) {
+}
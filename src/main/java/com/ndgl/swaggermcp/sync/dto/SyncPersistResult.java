@@ -0,0 +1,24 @@
+package com.ndgl.swaggermcp.sync.dto;
+
+import java.util.Map;
+
+/**
+ * 전체 동기화 저장 결과
+ */
+public record SyncPersistResult(
+        /**
+         * 저장한 API 엔드포인트 수
+         */
+        int endpoints,
+
+        /**
+         * 테이블별 저장 row 수
+         */
+        Map<String, Integer> rowsWritten,
+
+        /**
+         * 이전 동기화 대비 변경 내역
+         */
+        SpecChangeSet changes
+) {
+}
@@ -1,13 +1,17 @@
 package com.ndgl.swaggermcp.sync.presentation.http;
 
 import com.ndgl.swaggermcp.sync.presentation.request.ParseRequest;
+import com.ndgl.swaggermcp.sync.dto.SwaggerDirectorySyncResult;
 import com.ndgl.swaggermcp.sync.dto.SwaggerSyncResult;
+import com.ndgl.swaggermcp.sync.dto.SyncHistoryResult;
 import com.ndgl.swaggermcp.sync.application.usecase.SyncSwaggerUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Swagger 동기화 Controller
  */
@@ -22,7 +26,7 @@ public class SyncController {
     /**
      * Swagger JSON을 파싱하여 DB에 저장
      *
-     * @param request 파싱 요청 (Swagger URL 포함)
+     * @param request 파싱 요청 (Swagger URL 또는 file:// 경로)
      * @return 동기화 결과
      */
     @PostMapping("/sync")
@@ -41,4 +45,42 @@ public class SyncController {
             return ResponseEntity.internalServerError().body(result);
         }
     }
+
+    /**
+     * 디렉터리의 Swagger JSON(*.json)을 한 번에 파싱하여 DB에 저장
+     *
+     * @param request 파싱 요청 (file:// 디렉터리 경로)
+     * @return 파일별 동기화 결과
+     */
+    @PostMapping("/sync/directory")
+    public ResponseEntity<SwaggerDirectorySyncResult> parseSwaggerDirectory(
+            @RequestBody final ParseRequest request
+    ) {
+        log.info("Swagger 디렉터리 파싱 요청: {}", request.url());
+
+        final SwaggerDirectorySyncResult result = swaggerFacade.syncDirectory(request.url());
+
+        if (result.success()) {
+            log.info("Swagger 디렉터리 파싱 성공: {} 스펙, {} 엔드포인트", result.results().size(), result.totalEndpoints());
+            return ResponseEntity.ok(result);
+        } else {
+            log.error("Swagger 디렉터리 파싱 실패: {}", result.message());
+            return ResponseEntity.internalServerError().body(result);
+        }
+    }
+
+    /**
+     * 최근 동기화 이력 조회 (단계별 소요 시간, 문서 크기 등)
+     *
+     * @param url Swagger URL (없으면 전체)
+     * @param limit 최대 조회 건수
+     * @return 최신순 동기화 이력
+     */
+    @GetMapping("/sync/history")
+    public ResponseEntity<List<SyncHistoryResult>> getSyncHistory(
+            @RequestParam(required = false) final String url,
+            @RequestParam(defaultValue = "20") final int limit
+    ) {
+        return ResponseEntity.ok(swaggerFacade.getSyncHistory(url, Math.min(Math.max(limit, 1), 100)));
+    }
 }
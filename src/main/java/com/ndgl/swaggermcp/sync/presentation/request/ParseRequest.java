@@ -4,6 +4,9 @@ package com.ndgl.swaggermcp.sync.presentation.request;
  * Swagger 파싱 요청 DTO
  */
 public record ParseRequest(
+        /**
+         * http(s):// Swagger URL 또는 file:// 경로 (/sync/directory는 디렉터리)
+         */
         String url
 ) {
 }
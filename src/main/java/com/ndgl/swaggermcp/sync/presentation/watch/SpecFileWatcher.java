@@ -0,0 +1,322 @@
+package com.ndgl.swaggermcp.sync.presentation.watch;
+
+import com.ndgl.swaggermcp.sync.application.usecase.SyncSwaggerUseCase;
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncResult;
+import com.ndgl.swaggermcp.sync.support.LocalSpecReader;
+import com.ndgl.swaggermcp.sync.support.SyncMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * file:// 스펙 변경 감지 → 자동 동기화
+ * "컨트롤러 수정 → 백엔드 재시작 → curl /api/swagger/sync" 대신, 스펙 파일이 바뀌면 그 파일(source)만 다시 동기화한다.
+ * 동기화는 섹션 content hash로 바뀐 operation만 다시 쓰는 증분 동기화다. (SwaggerSyncService.sync)
+ *
+ * - swagger.watch.sources에 파일 또는 디렉터리(바로 아래 *.json)를 등록한다. 비어 있으면 동작하지 않는다.
+ * - 편집기는 임시 파일 쓰기 → rename처럼 여러 단계로 저장하므로, 부모 디렉터리를 감시하고 파일별로 debounce한다.
+ * - 시작할 때 감시 대상을 한 번 동기화하고, 이후에는 마지막 동기화 때와 내용(SHA-256)이 같으면(touch 등) 건너뛴다.
+ *   수정 시각 해상도가 거친 파일 시스템에서 크기가 같은 수정도 놓치지 않도록 수정 시각/크기 대신 내용을 비교한다.
+ * - 동기화는 단일 스레드에서 순서대로 실행한다. 수동 동기화와 겹쳐 sync bulkhead에 거부되거나 실패하면
+ *   backoff를 두고 다시 예약하고, 그 사이 파일이 다시 바뀌면 새 변경으로 보고 처음부터 debounce한다.
+ */
+@Slf4j
+@Component
+public class SpecFileWatcher {
+
+    private static final String SPEC_EXTENSION = ".json";
+    private static final int FINGERPRINT_BUFFER_BYTES = 64 * 1024;
+
+    private final SyncSwaggerUseCase syncSwaggerUseCase;
+    private final LocalSpecReader localSpecReader;
+    private final SyncMetrics syncMetrics;
+    private final List<String> sources;
+    private final long debounceMillis;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+
+    /**
+     * 감시 디렉터리 → 그 안에서 동기화할 대상 (null이면 디렉터리의 모든 *.json)
+     */
+    private final Map<Path, List<Path>> watchedFiles = new HashMap<>();
+    private final Map<Path, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    private final Map<Path, String> lastSynced = new ConcurrentHashMap<>();
+    private final Map<Path, Integer> retries = new ConcurrentHashMap<>();
+
+    private WatchService watchService;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param sources 감시할 file:// 파일 또는 디렉터리 (쉼표 구분)
+     * @param debounceMillis 마지막 변경 후 동기화까지 기다리는 시간
+     * @param maxRetries 거부/실패한 동기화를 다시 시도하는 최대 횟수
+     * @param retryBackoffMillis 첫 재시도까지 기다리는 시간 (시도마다 2배)
+     * @param maxRetryBackoffMillis 재시도 대기 시간 상한
+     */
+    public SpecFileWatcher(final SyncSwaggerUseCase syncSwaggerUseCase,
+                           final LocalSpecReader localSpecReader,
+                           final SyncMetrics syncMetrics,
+                           @Value("${swagger.watch.sources:}") final String sources,
+                           @Value("${swagger.watch.debounce-millis:200}") final long debounceMillis,
+                           @Value("${swagger.watch.retry.max-attempts:5}") final int maxRetries,
+                           @Value("${swagger.watch.retry.backoff-millis:1000}") final long retryBackoffMillis,
+                           @Value("${swagger.watch.retry.max-backoff-millis:30000}") final long maxRetryBackoffMillis) {
+        this.syncSwaggerUseCase = syncSwaggerUseCase;
+        this.localSpecReader = localSpecReader;
+        this.syncMetrics = syncMetrics;
+        this.sources = Arrays.stream(sources.split(","))
+                .map(String::trim)
+                .filter(source -> !source.isEmpty())
+                .toList();
+        this.debounceMillis = debounceMillis;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (sources.isEmpty()) {
+            return;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            for (final String source : sources) {
+                register(source);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("스펙 파일 감시 시작 실패", e);
+            stop();
+            return;
+        }
+
+        if (watchedFiles.isEmpty()) {
+            log.warn("감시할 스펙 파일이 없습니다: {}", sources);
+            stop();
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                runnable -> Thread.ofPlatform().name("spec-watch-sync").daemon().unstarted(runnable));
+        Thread.ofPlatform().name("spec-watcher").daemon().start(this::poll);
+        watchedFiles.keySet().forEach(directory -> watchedTargets(directory).forEach(this::schedule));
+        log.info("스펙 파일 감시 시작: {} 디렉터리 (debounce {}ms)", watchedFiles.size(), debounceMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("WatchService 종료 실패", e);
+            }
+        }
+    }
+
+    /**
+     * 파일이면 부모 디렉터리를, 디렉터리면 자신을 감시
+     */
+    private void register(final String source) throws IOException {
+        final Path path = Path.of(URI.create(localSpecReader.canonicalize(source)));
+        final Path directory = Files.isDirectory(path) ? path : path.getParent();
+
+        if (!watchedFiles.containsKey(directory)) {
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            watchedFiles.put(directory, new ArrayList<>());
+        }
+
+        final List<Path> files = watchedFiles.get(directory);
+        if (Files.isDirectory(path)) {
+            // 디렉터리 전체 감시는 개별 파일 목록보다 우선한다
+            watchedFiles.put(directory, null);
+        } else if (files != null) {
+            files.add(path);
+        }
+        log.info("스펙 파일 감시 등록: {}", path);
+    }
+
+    private void poll() {
+        try {
+            while (true) {
+                final WatchKey key = watchService.take();
+                final Path directory = (Path) key.watchable();
+
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // 이벤트가 유실되었으므로 디렉터리의 감시 대상을 모두 다시 확인
+                        watchedTargets(directory).forEach(this::schedule);
+                        continue;
+                    }
+
+                    final Path file = directory.resolve((Path) event.context());
+                    if (isWatched(directory, file)) {
+                        schedule(file);
+                    }
+                }
+
+                if (!key.reset()) {
+                    log.warn("스펙 디렉터리 감시 중단 (디렉터리 삭제 등): {}", directory);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("스펙 파일 감시 종료");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isWatched(final Path directory, final Path file) {
+        final List<Path> files = watchedFiles.get(directory);
+        if (files == null) {
+            return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(SPEC_EXTENSION);
+        }
+        return files.contains(file);
+    }
+
+    private List<Path> watchedTargets(final Path directory) {
+        final List<Path> files = watchedFiles.get(directory);
+        if (files != null) {
+            return files;
+        }
+
+        try (var entries = Files.list(directory)) {
+            return entries.filter(file -> isWatched(directory, file)).toList();
+        } catch (IOException e) {
+            log.warn("스펙 디렉터리 목록 조회 실패: {}", directory, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 같은 파일의 이전 예약(재시도 포함)을 취소하고 debounce 후 다시 예약
+     */
+    private void schedule(final Path file) {
+        retries.remove(file);
+        schedule(file, debounceMillis);
+    }
+
+    private void schedule(final Path file, final long delayMillis) {
+        pending.compute(file, (key, previous) -> {
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            return scheduleSync(file, delayMillis);
+        });
+    }
+
+    /**
+     * 동기화 예약
+     * 실행될 때 자기 예약만 pending에서 지우도록(그 사이 새로 예약된 것은 남김) 자신의 future를 넘긴다.
+     */
+    private ScheduledFuture<?> scheduleSync(final Path file, final long delayMillis) {
+        final AtomicReference<ScheduledFuture<?>> self = new AtomicReference<>();
+        self.set(scheduler.schedule(() -> sync(file, self.get()), delayMillis, TimeUnit.MILLISECONDS));
+        return self.get();
+    }
+
+    /**
+     * 거부/실패한 동기화를 backoff 후 다시 예약 (새 변경 이벤트가 먼저 예약했으면 그쪽을 따른다)
+     */
+    private void retry(final Path file) {
+        final int attempt = retries.merge(file, 1, Integer::sum);
+        if (attempt > maxRetries) {
+            retries.remove(file);
+            log.warn("스펙 파일 동기화 재시도 중단 ({}회 실패), 다음 변경을 기다립니다: {}", maxRetries, file);
+            return;
+        }
+
+        final long delayMillis = Math.min(retryBackoffMillis << Math.min(attempt - 1, 20), maxRetryBackoffMillis);
+        pending.compute(file, (key, previous) ->
+                previous != null && !previous.isDone() ? previous : scheduleSync(file, delayMillis));
+        log.info("스펙 파일 동기화 재시도 예약 ({}/{}, {}ms 후): {}", attempt, maxRetries, delayMillis, file);
+    }
+
+    private void sync(final Path file, final ScheduledFuture<?> thisFuture) {
+        pending.remove(file, thisFuture);
+
+        final String fingerprint = fingerprint(file);
+        if (fingerprint == null) {
+            // 삭제되었거나 rename 도중 — 기존 데이터는 유지하고 다음 이벤트를 기다린다
+            log.debug("스펙 파일 없음, 동기화 건너뜀: {}", file);
+            return;
+        }
+        if (fingerprint.equals(lastSynced.get(file))) {
+            syncMetrics.recordWatchTrigger("unchanged");
+            return;
+        }
+
+        log.info("스펙 파일 변경 감지, 동기화: {}", file);
+        final SwaggerSyncResult result = syncSwaggerUseCase.syncSwagger(file.toUri().toString());
+        if (result.success()) {
+            lastSynced.put(file, fingerprint);
+            retries.remove(file);
+            syncMetrics.recordWatchTrigger("synced");
+        } else {
+            log.warn("스펙 파일 동기화 실패: {} - {}", file, result.message());
+            syncMetrics.recordWatchTrigger("failed");
+            retry(file);
+        }
+    }
+
+    /**
+     * 파일 내용의 SHA-256 (파일이 없으면 null)
+     */
+    private String fingerprint(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[FINGERPRINT_BUFFER_BYTES];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.ndgl.swaggermcp.sync.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ndgl.swaggermcp.sync.dto.ParsedApiEndpoint;
+import com.ndgl.swaggermcp.sync.dto.ParsedErrorResponse;
+import com.ndgl.swaggermcp.sync.dto.ParsedParameter;
+import com.ndgl.swaggermcp.sync.dto.ParsedRequestBody;
+import com.ndgl.swaggermcp.sync.dto.ParsedResponseSchema;
+import com.ndgl.swaggermcp.sync.dto.SpecChangeSet;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 엔드포인트 섹션별 content hash 계산 및 비교
+ *
+ * 엔드포인트를 info / request / parameters / response.{status} / error.{status} 섹션으로 나눠 섹션마다 SHA-256 앞 12바이트를 저장한다.
+ * 이전 동기화의 해시와 비교하면 구조 diff 없이 추가/삭제/변경된 operation과 변경 섹션을 알 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentHashSupport {
+
+    private static final int HASH_BYTES = 12;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    /**
+     * API ID 범위 (52비트, JSON 숫자를 double로 읽는 클라이언트도 손실 없이 다루도록 2^53 미만)
+     */
+    private static final long ENDPOINT_ID_MASK = (1L << 52) - 1;
+
+    /**
+     * source id 길이 (SHA-256 앞 4바이트, hex 8자)
+     */
+    private static final int SOURCE_ID_BYTES = 4;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * source(URL 또는 file:// 경로)의 짧은 식별자 (SHA-256 앞 4바이트 hex, 예: 3f9a0c12)
+     * resource URI, URL 매칭, 변경 내역처럼 여러 source의 같은 method + path를 구분해야 하는 곳에 쓴다.
+     * source 컬럼이 생기기 전 데이터(null)도 고정된 id를 받는다.
+     */
+    public static String sourceId(final String source) {
+        return HexFormat.of().formatHex(sha256(source == null ? "" : source), 0, SOURCE_ID_BYTES);
+    }
+
+    /**
+     * operation 식별 키 (예: 3f9a0c12 POST /api/v1/users)
+     */
+    public static String operationKey(final String source, final String method, final String path) {
+        return sourceId(source) + " " + method + " " + path;
+    }
+
+    /**
+     * source + operation으로 정해지는 API ID (SHA-256 앞 52비트)
+     * 재동기화해도 같은 operation은 같은 ID를 받으므로 이전에 받은 apiId와 ID 기반 캐시가 그대로 유효하다.
+     */
+    public static long endpointId(final String source, final String method, final String path) {
+        final byte[] hash = sha256(source + FIELD_SEPARATOR + method + " " + path);
+        return nonZero(ByteBuffer.wrap(hash).getLong() & ENDPOINT_ID_MASK);
+    }
+
+    /**
+     * ID가 겹칠 때 사용할 다음 ID (같은 순서로 동기화하면 같은 값)
+     */
+    public static long nextEndpointId(final long id) {
+        return nonZero((id + 1) & ENDPOINT_ID_MASK);
+    }
+
+    /**
+     * 섹션 이름 → 해시 (섹션 이름순)
+     */
+    public Map<String, String> hashSections(final ParsedApiEndpoint endpoint) {
+        final Map<String, StringBuilder> sections = new TreeMap<>();
+
+        append(sections, "info", endpoint.operationId(), endpoint.summary(), endpoint.description(),
+                endpoint.tags() == null ? null : String.join(",", endpoint.tags()));
+
+        final ParsedRequestBody requestBody = endpoint.requestBody();
+        if (requestBody != null) {
+            append(sections, "request", requestBody.dtoName(), requestBody.contentType(), requestBody.required(),
+                    requestBody.schemaJson(), requestBody.exampleJson());
+        }
+
+        if (endpoint.parameters() != null) {
+            for (final ParsedParameter parameter : endpoint.parameters()) {
+                append(sections, "parameters", parameter.in(), parameter.name(), parameter.required(),
+                        parameter.type(), parameter.format(), parameter.description());
+            }
+        }
+
+        if (endpoint.responseSchemas() != null) {
+            for (final ParsedResponseSchema response : endpoint.responseSchemas()) {
+                append(sections, "response." + response.statusCode(), response.dtoName(), response.contentType(),
+                        response.description(), response.schemaJson(), response.exampleJson());
+            }
+        }
+
+        if (endpoint.errorResponses() != null) {
+            for (final ParsedErrorResponse error : endpoint.errorResponses()) {
+                append(sections, "error." + error.statusCode(), error.code(), error.message(), error.description(),
+                        error.schemaJson(), toJson(error.errors()));
+            }
+        }
+
+        final Map<String, String> hashes = new LinkedHashMap<>();
+        sections.forEach((section, content) -> hashes.put(section, hash(content)));
+        return hashes;
+    }
+
+    /**
+     * 이전/현재 동기화의 operation별 섹션 해시 비교
+     * 이전 해시가 없는 operation(해시 저장 전 데이터)은 변경 섹션을 "unknown"으로 표시한다.
+     *
+     * @param previous operation 키 → 이전 섹션 해시 (값이 null일 수 있음)
+     * @param current operation 키 → 현재 섹션 해시
+     * @return 추가 / 삭제 / 변경 operation
+     */
+    public SpecChangeSet diff(final Map<String, Map<String, String>> previous,
+                              final Map<String, Map<String, String>> current) {
+        final List<String> added = new ArrayList<>();
+        final Map<String, List<String>> modified = new TreeMap<>();
+        int unchanged = 0;
+
+        for (final Map.Entry<String, Map<String, String>> entry : current.entrySet()) {
+            final String operation = entry.getKey();
+            if (!previous.containsKey(operation)) {
+                added.add(operation);
+                continue;
+            }
+
+            final Map<String, String> oldHashes = previous.get(operation);
+            if (oldHashes == null) {
+                modified.put(operation, List.of("unknown"));
+                continue;
+            }
+
+            final List<String> changedSections = changedSections(oldHashes, entry.getValue());
+            if (changedSections.isEmpty()) {
+                unchanged++;
+            } else {
+                modified.put(operation, changedSections);
+            }
+        }
+
+        final List<String> removed = previous.keySet().stream()
+                .filter(operation -> !current.containsKey(operation))
+                .sorted()
+                .toList();
+
+        return new SpecChangeSet(added.stream().sorted().toList(), removed, modified, unchanged);
+    }
+
+    private List<String> changedSections(final Map<String, String> oldHashes, final Map<String, String> newHashes) {
+        final TreeSet<String> sections = new TreeSet<>(oldHashes.keySet());
+        sections.addAll(newHashes.keySet());
+
+        final List<String> changed = new ArrayList<>();
+        for (final String section : sections) {
+            if (!Objects.equals(oldHashes.get(section), newHashes.get(section))) {
+                changed.add(section);
+            }
+        }
+        return changed;
+    }
+
+    private void append(final Map<String, StringBuilder> sections, final String section, final Object... fields) {
+        final StringBuilder content = sections.computeIfAbsent(section, ignored -> new StringBuilder());
+        for (final Object field : fields) {
+            content.append(field).append(FIELD_SEPARATOR);
+        }
+    }
+
+    private String toJson(final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(value);
+        }
+    }
+
+    private String hash(final CharSequence content) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(sha256(content), HASH_BYTES));
+    }
+
+    private static byte[] sha256(final CharSequence content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest(content.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static long nonZero(final long id) {
+        return id == 0 ? 1 : id;
+    }
+}
@@ -1,28 +1,63 @@
 package com.ndgl.swaggermcp.sync.support;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ndgl.swaggermcp.common.jfr.RefResolveEvent;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JsonSchemaParsingSupport {
 
+    public static final String TRUNCATED_DEPTH = "depth";
+    public static final String TRUNCATED_NODES = "nodes";
+    public static final String TRUNCATED_BYTES = "bytes";
+
     private final ObjectMapper objectMapper;
+    private final SyncMetrics syncMetrics;
+
+    /**
+     * 한 경로에서 연속으로 확장할 수 있는 최대 $ref 수
+     */
+    private final int maxRefDepth;
+
+    /**
+     * schema 1개에 쓸 수 있는 최대 object 노드 수
+     */
+    private final int maxSchemaNodes;
+
+    /**
+     * 동기화 1회에서 확장된 schema JSON 전체 크기 상한
+     */
+    private final long maxExpandedBytes;
+
+    public JsonSchemaParsingSupport(final ObjectMapper objectMapper, final SyncMetrics syncMetrics,
+                                    @Value("${swagger.parse.ref-budget.max-depth:32}") final int maxRefDepth,
+                                    @Value("${swagger.parse.ref-budget.max-nodes:20000}") final int maxSchemaNodes,
+                                    @Value("${swagger.parse.ref-budget.max-expanded-bytes:67108864}") final long maxExpandedBytes) {
+        this.objectMapper = objectMapper;
+        this.syncMetrics = syncMetrics;
+        this.maxRefDepth = maxRefDepth;
+        this.maxSchemaNodes = maxSchemaNodes;
+        this.maxExpandedBytes = maxExpandedBytes;
+    }
 
     public JsonNode selectContentNode(final JsonNode content) {
         if (content == null || content.isMissingNode() || !content.isObject()) {
@@ -43,7 +78,10 @@ public class JsonSchemaParsingSupport {
         return content.path(firstContentType);
     }
 
-    public ExampleData extractExample(final JsonNode jsonContent, final JsonNode resolvedSchema) {
+    /**
+     * example 선택: content의 example → content의 첫 번째 examples → schema 최상위 property들의 example 조립
+     */
+    private ExampleData extractExample(final JsonNode jsonContent, final JsonNode schemaExample) {
         if (jsonContent == null || jsonContent.isMissingNode()) {
             return ExampleData.empty();
         }
@@ -72,12 +110,9 @@ public class JsonSchemaParsingSupport {
             }
         }
 
-        // 3. schema 내부의 properties에서 example 추출 (resolvedSchema 사용)
-        if (resolvedSchema != null && !resolvedSchema.isMissingNode()) {
-            final JsonNode exampleFromSchema = extractExamplesFromSchema(resolvedSchema);
-            if (exampleFromSchema != null && !exampleFromSchema.isNull()) {
-                return new ExampleData(exampleFromSchema, null, null);
-            }
+        // 3. schema 내부의 properties에서 조립한 example (변환 중 수집)
+        if (schemaExample != null) {
+            return new ExampleData(schemaExample, null, null);
         }
 
         return ExampleData.empty();
@@ -143,240 +178,302 @@ public class JsonSchemaParsingSupport {
     }
 
     /**
-     * Schema 내부의 모든 $ref를 재귀적으로 resolve하여 완전한 schema 반환
-     * 원본 schema는 수정하지 않고 deepCopy한 복사본에서 작업
+     * content의 schema를 한 번의 순회로 변환
+     * $ref 확장, required 인라인(각 property에 boolean), 최상위 property example 수집을 동시에 하면서 결과 JSON을 generator에 바로 쓴다.
+     * 원본 schema와 components는 복사하지도 수정하지도 않는다.
      *
-     * @param swaggerJson 전체 Swagger JSON
-     * @param schema resolve 대상 schema
-     * @return 모든 $ref가 resolve된 schema (deepCopy본)
+     * 순환 참조는 {"_circular": true, "$ref": ...} 표시로 끝나며 다시 확장되지 않는다.
+     * 형제 노드의 같은 $ref는 매번 확장되므로 DAG 형태의 schema는 지수적으로 커질 수 있다.
+     * 확장 예산(경로 깊이, schema당 노드 수, 동기화당 확장 크기)을 넘으면 그 $ref는
+     * {"_truncated": 사유, "$ref": ...} 표시로 대체하고 statistics에 기록한다.
+     *
+     * @param swaggerJson 전체 Swagger JSON ($ref 대상)
+     * @param jsonContent 선택된 content 노드 (schema, example, examples 포함)
+     * @param statistics 동기화 통계 수집기 ($ref 확장 횟수, 변환 시간)
+     * @return 변환된 schema JSON, 선택된 example, 사용 DTO (이름 → 최소 참조 깊이)
      */
-    public JsonNode resolveAllRefs(final JsonNode swaggerJson, final JsonNode schema) {
-        if (schema == null || schema.isMissingNode()) {
-            return schema;
+    public TransformedSchema transformSchema(final JsonNode swaggerJson, final JsonNode jsonContent,
+                                             final SyncStatistics statistics) {
+        final JsonNode schema = jsonContent.path("schema");
+        final Map<String, Integer> referencedDtos = new LinkedHashMap<>();
+        if (schema.isMissingNode()) {
+            return new TransformedSchema(null, extractExample(jsonContent, null), referencedDtos);
         }
 
-        final Set<String> visited = new LinkedHashSet<>();
-        final JsonNode copied = schema.deepCopy();
-
-        // 최상위 노드 자체가 $ref인 경우 처리
-        final JsonNode resolved = resolveIfRef(swaggerJson, copied, visited);
-        if (resolved != copied) {
-            return resolved;
+        final long start = System.nanoTime();
+        try {
+            final SchemaWriter writer = new SchemaWriter(swaggerJson, statistics, referencedDtos);
+            final String schemaJson = writer.write(schema);
+            if (schemaJson != null) {
+                statistics.recordExpandedBytes(schemaJson);
+            }
+            return new TransformedSchema(schemaJson, extractExample(jsonContent, writer.schemaExample), referencedDtos);
+        } finally {
+            statistics.recordResolve(System.nanoTime() - start);
         }
-
-        resolveAllRefsRecursive(swaggerJson, copied, visited);
-        return copied;
     }
 
     /**
-     * 노드 내부의 모든 $ref를 재귀적으로 탐색하여 resolve
+     * schema 1개 변환용 visitor (호출마다 새로 생성)
      *
-     * @param swaggerJson 전체 Swagger JSON
-     * @param node 탐색 대상 노드 (이미 deepCopy된 상태)
-     * @param visited 순환 참조 감지를 위한 DFS 경로 추적 Set
+     * $ref 해석 위치: properties의 각 값, items, allOf 요소, additionalProperties
+     * required 인라인 위치: 최상위 schema부터 properties → (property 자신, property의 items)로 이어지는 경로의 property
      */
-    private void resolveAllRefsRecursive(final JsonNode swaggerJson, final JsonNode node, final Set<String> visited) {
-        if (node == null || node.isMissingNode() || !node.isObject()) {
-            return;
-        }
-
-        final ObjectNode objectNode = (ObjectNode) node;
-
-        // 1. properties 내부 각 필드의 $ref 처리
-        final JsonNode properties = objectNode.path("properties");
-        if (properties.isObject()) {
-            final ObjectNode propertiesNode = (ObjectNode) properties;
-            final var fieldNameList = new java.util.ArrayList<String>();
-            propertiesNode.fieldNames().forEachRemaining(fieldNameList::add);
-
-            for (final String fieldName : fieldNameList) {
-                final JsonNode fieldSchema = propertiesNode.get(fieldName);
-                final JsonNode resolvedField = resolveIfRef(swaggerJson, fieldSchema, visited);
-                if (resolvedField != fieldSchema) {
-                    propertiesNode.set(fieldName, resolvedField);
+    private final class SchemaWriter {
+
+        private final JsonNode swaggerJson;
+        private final SyncStatistics statistics;
+        private final Map<String, Integer> referencedDtos;
+
+        /**
+         * 순환 참조 감지를 위한 DFS 경로 ($ref)
+         */
+        private final Set<String> visited = new LinkedHashSet<>();
+        private final SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+
+        private StringWriter out;
+        private JsonGenerator generator;
+
+        /**
+         * 지금 쓰는 위치의 object 중첩 깊이
+         * body 자체는 0, body의 property / items / allOf 요소는 1, 그 안쪽은 2 ...
+         * inline body의 property나 배열 body의 items가 가리키는 DTO도 1이 된다.
+         */
+        private int depth;
+
+        /**
+         * 지금까지 쓴 object 노드 수 (순환 / 생략 표시 포함)
+         */
+        private int nodes;
+
+        /**
+         * 최상위 property의 example 조립 결과 (없으면 null)
+         */
+        private ObjectNode schemaExample;
+
+        private SchemaWriter(final JsonNode swaggerJson, final SyncStatistics statistics,
+                             final Map<String, Integer> referencedDtos) {
+            this.swaggerJson = swaggerJson;
+            this.statistics = statistics;
+            this.referencedDtos = referencedDtos;
+        }
+
+        private String write(final JsonNode schema) {
+            out = new StringWriter();
+            try (JsonGenerator jsonGenerator = objectMapper.createGenerator(out)) {
+                generator = jsonGenerator;
+                final JsonNode resolved = writeSchema(schema, true, false, null);
+                if (resolved.isNull()) {
+                    return null;
                 }
-                resolveAllRefsRecursive(swaggerJson, resolvedField, visited);
+            } catch (IOException e) {
+                log.error("schema를 JSON 문자열로 변환 실패", e);
+                return null;
+            }
+            return out.toString();
+        }
+
+        /**
+         * 노드가 $ref면 해석해서 쓰기
+         *
+         * @param enrichProperties properties의 각 필드에 required를 인라인할지
+         * @param enrichItems items의 properties에도 인라인할지
+         * @param required 이 노드에 넣을 required 값 (null이면 넣지 않음)
+         * @return 해석된 노드 (순환 참조면 MissingNode)
+         */
+        private JsonNode writeSchema(final JsonNode node, final boolean enrichProperties, final boolean enrichItems,
+                                     final Boolean required) throws IOException {
+            if (!node.isObject() || !node.has("$ref")) {
+                writeNode(node, enrichProperties, enrichItems, required);
+                return node;
             }
-        }
-
-        // 2. items (array 타입) 내부 $ref 처리
-        resolveChildRef(swaggerJson, objectNode, "items", visited);
-
-        // 3. allOf 배열 내부 $ref 처리
-        resolveRefsInCompositionArray(swaggerJson, objectNode, "allOf", visited);
 
-        // 4. additionalProperties 내부 $ref 처리
-        resolveChildRef(swaggerJson, objectNode, "additionalProperties", visited);
-    }
+            final String ref = node.get("$ref").asText();
+            final RefResolveEvent event = new RefResolveEvent();
+            event.begin();
+            String outcome = "resolved";
+            try {
+                // 사용 DTO 기록 (순환 참조도 해당 DTO를 쓰는 것이므로 포함)
+                // 깊이는 $ref 경로 길이가 아니라 body에서 몇 단계 안쪽 object에 있는지로 센다.
+                referencedDtos.merge(extractDtoNameFromRef(ref), depth, Math::min);
+
+                // 순환 참조 감지: 현재 DFS 경로에 이미 존재하면 순환
+                if (visited.contains(ref)) {
+                    log.warn("순환 참조 감지: {}", ref);
+                    outcome = "circular";
+                    return writeMarker(ref, null, required);
+                }
 
-    /**
-     * allOf/oneOf/anyOf 배열의 각 요소에 대해 $ref resolve 수행
-     */
-    private void resolveRefsInCompositionArray(final JsonNode swaggerJson, final ObjectNode parentNode,
-                                                final String compositionKey, final Set<String> visited) {
-        final JsonNode compositionArray = parentNode.path(compositionKey);
-        if (!compositionArray.isArray()) {
-            return;
-        }
+                // 확장 예산 초과: 이 $ref 아래는 확장하지 않음
+                final String truncation = exceededBudget();
+                if (truncation != null) {
+                    log.debug("$ref 확장 예산 초과 ({}): {}", truncation, ref);
+                    outcome = "truncated";
+                    statistics.recordTruncation(truncation);
+                    return writeMarker(ref, truncation, required);
+                }
 
-        final ArrayNode arrayNode = (ArrayNode) compositionArray;
-        for (int i = 0; i < arrayNode.size(); i++) {
-            final JsonNode element = arrayNode.get(i);
-            final JsonNode resolvedElement = resolveIfRef(swaggerJson, element, visited);
-            if (resolvedElement != element) {
-                arrayNode.set(i, resolvedElement);
+                final JsonNode target = resolveSchemaRef(swaggerJson, ref);
+                if (target == null) {
+                    log.warn("$ref resolve 실패, 원본 노드 반환: {}", ref);
+                    outcome = "unresolved";
+                    writeNode(node, enrichProperties, enrichItems, required);
+                    return node;
+                }
+                statistics.recordRefExpansion();
+
+                // DFS 경로에 추가 후 확장, 완료 후 제거 (대상이 다시 $ref면 이어서 해석)
+                visited.add(ref);
+                try {
+                    return writeSchema(target, enrichProperties, enrichItems, required);
+                } finally {
+                    visited.remove(ref);
+                }
+            } finally {
+                syncMetrics.recordRefResolution(outcome);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.ref = ref;
+                    event.depth = visited.size();
+                    event.outcome = outcome;
+                    event.commit();
+                }
             }
-            resolveAllRefsRecursive(swaggerJson, resolvedElement, visited);
         }
-    }
 
-    /**
-     * 부모 노드의 특정 자식 키에 대해 $ref resolve 수행
-     */
-    private void resolveChildRef(final JsonNode swaggerJson, final ObjectNode parentNode,
-                                  final String childKey, final Set<String> visited) {
-        final JsonNode child = parentNode.path(childKey);
-        if (child.isObject()) {
-            final JsonNode resolved = resolveIfRef(swaggerJson, child, visited);
-            if (resolved != child) {
-                parentNode.set(childKey, resolved);
+        /**
+         * $ref가 해석된 노드 쓰기
+         * 변환 대상이 아닌 필드는 원본 그대로 직렬화한다.
+         */
+        private void writeNode(final JsonNode node, final boolean enrichProperties, final boolean enrichItems,
+                               final Boolean required) throws IOException {
+            if (!node.isObject()) {
+                node.serialize(generator, provider);
+                return;
             }
-            resolveAllRefsRecursive(swaggerJson, resolved, visited);
-        }
-    }
-
-    /**
-     * 노드가 $ref를 가지고 있으면 resolve하여 실제 schema 반환
-     * 순환 참조 감지: DFS 경로 기반 visited Set 사용 (형제 노드의 같은 $ref는 허용, 조상-자손 순환만 차단)
-     *
-     * @param swaggerJson 전체 Swagger JSON
-     * @param node 검사 대상 노드
-     * @param visited 순환 참조 감지를 위한 DFS 경로 추적 Set
-     * @return resolve된 노드 (deepCopy본) 또는 원본 노드 ($ref가 없는 경우)
-     */
-    private JsonNode resolveIfRef(final JsonNode swaggerJson, final JsonNode node, final Set<String> visited) {
-        if (node == null || !node.isObject() || !node.has("$ref")) {
-            return node;
-        }
-
-        final String ref = node.get("$ref").asText();
-
-        // 순환 참조 감지: 현재 DFS 경로에 이미 존재하면 순환
-        if (visited.contains(ref)) {
-            log.warn("순환 참조 감지: {}", ref);
-            final ObjectNode circularMarker = objectMapper.createObjectNode();
-            circularMarker.put("_circular", true);
-            circularMarker.put("$ref", ref);
-            return circularMarker;
-        }
-
-        final JsonNode resolvedOriginal = resolveSchemaRef(swaggerJson, ref);
-        if (resolvedOriginal == null) {
-            log.warn("$ref resolve 실패, 원본 노드 반환: {}", ref);
-            return node;
-        }
-
-        final JsonNode resolved = resolvedOriginal.deepCopy();
-
-        // DFS 경로에 추가 후 재귀 처리, 완료 후 제거
-        visited.add(ref);
-        resolveAllRefsRecursive(swaggerJson, resolved, visited);
-        visited.remove(ref);
-
-        return resolved;
-    }
-
-    /**
-     * Schema의 required 배열 정보를 각 property에 포함시켜 enriched schema 생성
-     *
-     * @param schema 원본 OpenAPI schema
-     * @return required 정보가 각 필드에 포함된 schema
-     */
-    public JsonNode enrichSchemaWithRequired(final JsonNode schema) {
-        if (schema == null || schema.isMissingNode()) {
-            return schema;
-        }
-
-        // schema를 복사하여 수정 (원본 보존)
-        final var enrichedSchema = schema.deepCopy();
-        enrichSchemaWithRequiredRecursive(enrichedSchema);
-        return enrichedSchema;
-    }
-
-    /**
-     * schema 내부의 모든 깊이에서 required 배열을 각 필드에 인라인
-     */
-    private void enrichSchemaWithRequiredRecursive(final JsonNode schema) {
-        if (schema == null || schema.isMissingNode() || !schema.isObject()) {
-            return;
-        }
-
-        final JsonNode properties = schema.path("properties");
-        if (properties.isMissingNode() || !properties.isObject()) {
-            return;
-        }
-
-        // required 배열 추출
-        final JsonNode requiredArray = schema.path("required");
-        final var requiredFields = new HashSet<String>();
-        if (requiredArray.isArray()) {
-            requiredArray.forEach(field -> requiredFields.add(field.asText()));
-        }
 
-        // properties의 각 필드에 required 정보 추가
-        final ObjectNode propertiesObject = (ObjectNode) properties;
-        for (final var entry : propertiesObject.properties()) {
-            final String fieldName = entry.getKey();
-            final JsonNode fieldSchema = entry.getValue();
-
-            if (fieldSchema instanceof ObjectNode objectNode) {
-                // 중첩 object 재귀 처리 (required 배열을 읽기 전에 boolean으로 덮어쓰면 안 됨)
-                enrichSchemaWithRequiredRecursive(objectNode);
-
-                // array의 items 재귀 처리
-                final JsonNode items = objectNode.path("items");
-                if (items.isObject()) {
-                    enrichSchemaWithRequiredRecursive(items);
+            final boolean topLevel = depth == 0;
+            nodes++;
+            final JsonNode properties = node.path("properties");
+            final boolean enrichHere = enrichProperties && properties.isObject();
+            final Set<String> requiredFields = enrichHere ? requiredFields(node) : Set.of();
+
+            depth++;
+            generator.writeStartObject();
+            boolean requiredWritten = false;
+            for (final Map.Entry<String, JsonNode> field : node.properties()) {
+                final String name = field.getKey();
+                final JsonNode value = field.getValue();
+                generator.writeFieldName(name);
+
+                if (required != null && name.equals("required")) {
+                    // required 배열은 properties를 쓸 때 이미 읽었으므로 boolean으로 대체
+                    generator.writeBoolean(required);
+                    requiredWritten = true;
+                } else if (name.equals("properties") && value.isObject()) {
+                    writeProperties(value, enrichHere, requiredFields, topLevel);
+                } else if (name.equals("items") && value.isObject()) {
+                    writeSchema(value, enrichItems, false, null);
+                } else if (name.equals("allOf") && value.isArray()) {
+                    generator.writeStartArray();
+                    for (final JsonNode element : value) {
+                        writeSchema(element, false, false, null);
+                    }
+                    generator.writeEndArray();
+                } else if (name.equals("additionalProperties") && value.isObject()) {
+                    writeSchema(value, false, false, null);
+                } else {
+                    value.serialize(generator, provider);
+                }
+            }
+            if (required != null && !requiredWritten) {
+                generator.writeBooleanField("required", required);
+            }
+            generator.writeEndObject();
+            depth--;
+        }
+
+        private void writeProperties(final JsonNode properties, final boolean enrich, final Set<String> requiredFields,
+                                     final boolean collectExamples) throws IOException {
+            generator.writeStartObject();
+            for (final Map.Entry<String, JsonNode> property : properties.properties()) {
+                final String name = property.getKey();
+                generator.writeFieldName(name);
+
+                final JsonNode resolved = writeSchema(property.getValue(), enrich, enrich,
+                        enrich ? requiredFields.contains(name) : null);
+
+                if (collectExamples) {
+                    final JsonNode example = resolved.path("example");
+                    if (!example.isMissingNode()) {
+                        if (schemaExample == null) {
+                            schemaExample = objectMapper.createObjectNode();
+                        }
+                        schemaExample.set(name, example);
+                    }
                 }
-
-                // 재귀 처리 후 현재 필드의 required를 boolean으로 설정
-                objectNode.put("required", requiredFields.contains(fieldName));
             }
+            generator.writeEndObject();
+        }
+
+        /**
+         * 확장하지 않은 $ref 표시 쓰기
+         * 순환 참조면 {"_circular": true, "$ref": ...}, 예산 초과면 {"_truncated": 사유, "$ref": ...}
+         *
+         * @param truncation 예산 초과 사유 (순환 참조면 null)
+         * @return 예시를 수집할 대상이 없으므로 MissingNode
+         */
+        private JsonNode writeMarker(final String ref, final String truncation, final Boolean required) throws IOException {
+            nodes++;
+            generator.writeStartObject();
+            if (truncation == null) {
+                generator.writeBooleanField("_circular", true);
+            } else {
+                generator.writeStringField("_truncated", truncation);
+            }
+            generator.writeStringField("$ref", ref);
+            if (required != null) {
+                generator.writeBooleanField("required", required);
+            }
+            generator.writeEndObject();
+            return MissingNode.getInstance();
         }
-    }
 
-    /**
-     * Schema의 properties에서 example들을 추출하여 하나의 객체로 조립
-     *
-     * @param schema OpenAPI schema 객체
-     * @return example 객체 (JsonNode) 또는 null
-     */
-    private JsonNode extractExamplesFromSchema(final JsonNode schema) {
-        if (schema == null || schema.isMissingNode()) {
-            return null;
-        }
+        /**
+         * $ref를 하나 더 확장하면 넘게 되는 예산 (없으면 null)
+         * 크기는 작성 중인 문자 수로 근사한다.
+         */
+        private String exceededBudget() {
+            if (nodes >= maxSchemaNodes) {
+                return TRUNCATED_NODES;
+            }
+            if (visited.size() >= maxRefDepth) {
+                return TRUNCATED_DEPTH;
+            }
 
-        final JsonNode properties = schema.path("properties");
-        if (properties.isMissingNode() || !properties.isObject()) {
+            final long written = out.getBuffer().length() + generator.getOutputBuffered();
+            if (statistics.expandedBytes() + written >= maxExpandedBytes) {
+                return TRUNCATED_BYTES;
+            }
             return null;
         }
 
-        final var exampleObject = objectMapper.createObjectNode();
-        boolean hasAnyExample = false;
-
-        for (final Iterator<Map.Entry<String, JsonNode>> it = properties.fields(); it.hasNext(); ) {
-            final Map.Entry<String, JsonNode> entry = it.next();
-            final String fieldName = entry.getKey();
-            final JsonNode fieldSchema = entry.getValue();
-
-            final JsonNode fieldExample = fieldSchema.path("example");
-            if (!fieldExample.isMissingNode()) {
-                exampleObject.set(fieldName, fieldExample);
-                hasAnyExample = true;
+        private Set<String> requiredFields(final JsonNode node) {
+            final JsonNode requiredArray = node.path("required");
+            if (!requiredArray.isArray()) {
+                return Set.of();
             }
+
+            final Set<String> fields = new HashSet<>();
+            requiredArray.forEach(field -> fields.add(field.asText()));
+            return fields;
         }
+    }
 
-        return hasAnyExample ? exampleObject : null;
+    /**
+     * transformSchema 결과
+     */
+    public record TransformedSchema(String schemaJson, ExampleData example, Map<String, Integer> referencedDtos) {
     }
 
     public record ExampleData(JsonNode value, String name, String description) {
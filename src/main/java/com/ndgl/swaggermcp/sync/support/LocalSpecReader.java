@@ -0,0 +1,130 @@
+package com.ndgl.swaggermcp.sync.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * file:// Swagger source 읽기
+ * CI 산출물처럼 디스크에 있는 스펙을 HTTP 없이 memory-mapped로 읽는다.
+ *
+ * 동기화 API는 /mcp 토큰 검사 대상이 아니므로, swagger.local-source.roots에 등록한 디렉터리 아래 파일만 허용한다.
+ * 목록이 비어 있으면 file:// source는 모두 거부된다.
+ */
+@Slf4j
+@Component
+public class LocalSpecReader {
+
+    private static final String FILE_SCHEME = "file:";
+    private static final String SPEC_EXTENSION = ".json";
+
+    private final List<Path> roots;
+
+    /**
+     * @param roots 허용할 디렉터리 목록 (쉼표 구분 절대 경로)
+     */
+    public LocalSpecReader(@Value("${swagger.local-source.roots:}") final String roots) {
+        this.roots = new ArrayList<>();
+        Arrays.stream(roots.split(","))
+                .map(String::trim)
+                .filter(root -> !root.isEmpty())
+                .forEach(root -> {
+                    try {
+                        this.roots.add(Path.of(root).toRealPath());
+                    } catch (IOException e) {
+                        log.warn("로컬 스펙 디렉터리를 찾을 수 없어 무시합니다: {}", root);
+                    }
+                });
+    }
+
+    public static boolean isLocal(final String source) {
+        return source != null && source.regionMatches(true, 0, FILE_SCHEME, 0, FILE_SCHEME.length());
+    }
+
+    /**
+     * 같은 파일이 표기만 다른 source(file:/a, file:///a, 심볼릭 링크)로 중복 저장되지 않도록 실제 경로 URI로 정규화
+     * HTTP source는 그대로 돌려준다.
+     */
+    public String canonicalize(final String source) {
+        return isLocal(source) ? resolve(source).toUri().toString() : source;
+    }
+
+    public boolean isDirectory(final String source) {
+        return isLocal(source) && Files.isDirectory(resolve(source));
+    }
+
+    /**
+     * 스펙 파일을 read-only로 map
+     * 반환한 buffer는 채널을 닫은 뒤에도 유효하며, 파서가 페이지 캐시에서 바로 읽으므로 힙에 문서 전체를 복사하지 않는다.
+     */
+    public MappedByteBuffer map(final String source) throws IOException {
+        return mapFile(resolve(source));
+    }
+
+    /**
+     * 경로 검사 없이 파일을 read-only로 map (HTTP source를 내려받은 임시 파일용)
+     */
+    public static MappedByteBuffer mapFile(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Swagger 파일이 너무 큽니다 (" + size + " bytes): " + path);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * 디렉터리 바로 아래의 *.json 스펙을 이름순으로 나열
+     *
+     * @return 파일별 정규화된 file:// source
+     */
+    public List<String> listSpecs(final String directorySource) throws IOException {
+        final Path directory = resolve(directorySource);
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("디렉터리가 아닙니다: " + directorySource);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(SPEC_EXTENSION))
+                    .sorted()
+                    .map(file -> canonicalize(file.toUri().toString()))
+                    .toList();
+        }
+    }
+
+    /**
+     * file:// source → 허용 디렉터리 아래의 실제 경로
+     */
+    private Path resolve(final String source) {
+        if (roots.isEmpty()) {
+            throw new IllegalArgumentException("file:// source가 허용되지 않았습니다 (swagger.local-source.roots 미설정)");
+        }
+
+        final Path path;
+        try {
+            path = Path.of(URI.create(source)).toRealPath();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("로컬 Swagger 파일을 찾을 수 없습니다: " + source, e);
+        }
+
+        if (roots.stream().noneMatch(path::startsWith)) {
+            throw new IllegalArgumentException("허용되지 않은 경로입니다: " + source);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ndgl.swaggermcp.sync.support;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 가져온 Swagger 문서 원본 (여러 번 다시 읽을 수 있음)
+ * file:// source 또는 HTTP source를 내려받은 임시 파일을 mmap한 buffer를 감싼다. 스트리밍 파싱은 같은 문서를 두 번 읽는다.
+ */
+public final class SpecDocument {
+
+    private final ByteBuffer buffer;
+
+    private SpecDocument(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public static SpecDocument of(final ByteBuffer buffer) {
+        return new SpecDocument(buffer);
+    }
+
+    public long size() {
+        return buffer.limit();
+    }
+
+    /**
+     * 문서 처음부터 읽는 parser 생성 (호출할 때마다 독립된 위치에서 시작)
+     */
+    public JsonParser open(final JsonFactory factory) throws IOException {
+        return factory.createParser(new ByteBufferBackedInputStream(buffer.duplicate()));
+    }
+}
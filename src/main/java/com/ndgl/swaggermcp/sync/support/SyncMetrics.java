@@ -0,0 +1,126 @@
+package com.ndgl.swaggermcp.sync.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Swagger 동기화 단계별 메트릭 기록기
+ *
+ * - swagger.sync.stage          : 단계(fetch/parse/persist)별 소요 시간 (source 태그로 스펙 구분)
+ * - swagger.sync.fetch.bytes    : 다운로드한 문서 크기
+ * - swagger.sync.parse.operation: operation 1개 파싱 시간
+ * - swagger.sync.ref.resolutions: $ref 해석 횟수 (resolved/circular/unresolved/truncated)
+ * - swagger.sync.persist.rows   : 테이블별 저장 row 수
+ * - swagger.sync.watch.triggers : 파일 변경 감지로 시작한 동기화 (synced/failed/unchanged)
+ *
+ * source 태그는 전체 URL/경로 대신 host(:port) 또는 파일 이름으로 줄이고,
+ * 서로 다른 값이 swagger.metrics.max-source-tags를 넘으면 "other"로 묶어 시계열 수가 늘어나지 않게 한다.
+ */
+@Component
+public class SyncMetrics {
+
+    private static final String OTHER_SOURCE = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxSourceTags;
+    private final Map<String, String> sourceTags = new ConcurrentHashMap<>();
+    private final AtomicInteger sourceTagCount = new AtomicInteger();
+
+    public SyncMetrics(final MeterRegistry meterRegistry,
+                       @Value("${swagger.metrics.max-source-tags:20}") final int maxSourceTags) {
+        this.meterRegistry = meterRegistry;
+        this.maxSourceTags = maxSourceTags;
+    }
+
+    public void recordStage(final String source, final String stage, final long elapsedNanos) {
+        Timer.builder("swagger.sync.stage")
+                .description("Swagger sync stage duration")
+                .tag("source", sourceTag(source))
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFetchBytes(final String source, final long bytes) {
+        DistributionSummary.builder("swagger.sync.fetch.bytes")
+                .description("Fetched Swagger document size")
+                .baseUnit("bytes")
+                .tag("source", sourceTag(source))
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    public void recordOperationParse(final long elapsedNanos) {
+        Timer.builder("swagger.sync.parse.operation")
+                .description("Time to parse a single Swagger operation")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRefResolution(final String outcome) {
+        Counter.builder("swagger.sync.ref.resolutions")
+                .description("Number of $ref resolutions during sync")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordPersistedRows(final String table, final int rows) {
+        DistributionSummary.builder("swagger.sync.persist.rows")
+                .description("Rows written per table in a single sync")
+                .tag("table", table)
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    public void recordWatchTrigger(final String outcome) {
+        Counter.builder("swagger.sync.watch.triggers")
+                .description("Syncs triggered by spec file changes")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * source URL/경로 → 메트릭 태그 값 (http: host[:port], file: 파일 이름)
+     * 새 값 등록은 computeIfAbsent 안에서 개수 확인과 증가를 한 번에 하므로, 동시에 동기화해도 상한을 넘지 않는다.
+     * 상한을 넘은 값은 저장하지 않고 "other"로 돌려준다.
+     */
+    private String sourceTag(final String source) {
+        final String tag = sourceTags.computeIfAbsent(shortName(source),
+                name -> sourceTagCount.getAndUpdate(count -> count < maxSourceTags ? count + 1 : count) < maxSourceTags
+                        ? name
+                        : null);
+        return tag != null ? tag : OTHER_SOURCE;
+    }
+
+    private static String shortName(final String source) {
+        if (source == null || source.isBlank()) {
+            return OTHER_SOURCE;
+        }
+
+        try {
+            final URI uri = URI.create(source.trim());
+            if (uri.getHost() != null) {
+                return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+            }
+            final String path = uri.getPath();
+            if (path != null && !path.isEmpty()) {
+                return path.substring(path.lastIndexOf('/') + 1);
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 other로 묶는다
+        }
+        return OTHER_SOURCE;
+    }
+}
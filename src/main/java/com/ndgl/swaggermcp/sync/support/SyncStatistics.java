@@ -0,0 +1,218 @@
+package com.ndgl.swaggermcp.sync.support;
+
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncStats;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 동기화 1회의 단계별 통계 수집기
+ * 동기화 요청마다 새로 생성하여 Fetch → Parse → Persist 흐름을 따라 전달한다. (thread-safe 하지 않음)
+ */
+public class SyncStatistics {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    /**
+     * schema 크기 기록 N번마다 힙 사용량 샘플링 (operation 수가 많아도 MXBean 호출이 몰리지 않도록)
+     */
+    private static final int HEAP_SAMPLE_INTERVAL = 64;
+
+    private final long startNanos = System.nanoTime();
+    private final long heapUsedAtStart;
+    private long peakHeapUsed;
+    private int schemaRecords;
+
+    private long fetchNanos;
+    private long parseNanos;
+    private long resolveNanos;
+    private long persistNanos;
+    private long documentBytes;
+    private int refExpansions;
+    private int largestSchemaBytes;
+    private String largestSchemaName;
+    private long expandedBytes;
+    private final Map<String, Integer> truncations = new LinkedHashMap<>();
+    private final Map<String, Integer> rowsWritten = new LinkedHashMap<>();
+
+    public SyncStatistics() {
+        this.heapUsedAtStart = heapUsed();
+        this.peakHeapUsed = heapUsedAtStart;
+    }
+
+    public void recordFetch(final long elapsedNanos) {
+        this.fetchNanos += elapsedNanos;
+        sampleHeap();
+    }
+
+    public void recordDocumentBytes(final long bytes) {
+        this.documentBytes += bytes;
+    }
+
+    public void recordParse(final long elapsedNanos) {
+        this.parseNanos += elapsedNanos;
+        sampleHeap();
+    }
+
+    /**
+     * $ref 해석 시간 (Parse 단계에 포함되는 하위 구간)
+     */
+    public void recordResolve(final long elapsedNanos) {
+        this.resolveNanos += elapsedNanos;
+    }
+
+    public void recordRefExpansion() {
+        this.refExpansions++;
+    }
+
+    /**
+     * 확장이 끝난 schema JSON 크기 기록 (가장 큰 schema만 보관)
+     */
+    public void recordSchemaSize(final String name, final String schemaJson) {
+        if (++schemaRecords % HEAP_SAMPLE_INTERVAL == 0) {
+            sampleHeap();
+        }
+        if (schemaJson == null) {
+            return;
+        }
+
+        final int bytes = utf8Length(schemaJson);
+        if (bytes > largestSchemaBytes) {
+            this.largestSchemaBytes = bytes;
+            this.largestSchemaName = name;
+        }
+    }
+
+    /**
+     * 확장이 끝난 schema JSON 크기 누적 (동기화당 확장 예산 기준)
+     */
+    public void recordExpandedBytes(final String schemaJson) {
+        this.expandedBytes += utf8Length(schemaJson);
+    }
+
+    /**
+     * 확장 예산 초과로 $ref를 확장하지 않은 횟수 (사유별)
+     */
+    public void recordTruncation(final String reason) {
+        truncations.merge(reason, 1, Integer::sum);
+    }
+
+    public void recordPersist(final long elapsedNanos, final Map<String, Integer> rows) {
+        this.persistNanos += elapsedNanos;
+        rows.forEach((table, count) -> rowsWritten.merge(table, count, Integer::sum));
+        sampleHeap();
+    }
+
+    public SwaggerSyncStats toStats() {
+        return new SwaggerSyncStats(
+                totalMillis(),
+                fetchMillis(),
+                parseMillis(),
+                resolveMillis(),
+                persistMillis(),
+                documentBytes,
+                refExpansions,
+                largestSchemaBytes,
+                largestSchemaName,
+                expandedBytes,
+                Collections.unmodifiableMap(new LinkedHashMap<>(truncations)),
+                Collections.unmodifiableMap(new LinkedHashMap<>(rowsWritten)),
+                peakHeapDeltaBytes()
+        );
+    }
+
+    public long fetchMillis() {
+        return toMillis(fetchNanos);
+    }
+
+    public long parseMillis() {
+        return toMillis(parseNanos);
+    }
+
+    public long resolveMillis() {
+        return toMillis(resolveNanos);
+    }
+
+    public long persistMillis() {
+        return toMillis(persistNanos);
+    }
+
+    public long totalMillis() {
+        return toMillis(System.nanoTime() - startNanos);
+    }
+
+    public long documentBytes() {
+        return documentBytes;
+    }
+
+    public int refExpansions() {
+        return refExpansions;
+    }
+
+    public int largestSchemaBytes() {
+        return largestSchemaBytes;
+    }
+
+    public String largestSchemaName() {
+        return largestSchemaName;
+    }
+
+    public long expandedBytes() {
+        return expandedBytes;
+    }
+
+    public Map<String, Integer> truncations() {
+        return truncations;
+    }
+
+    public Map<String, Integer> rowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * 동기화 시작 이후 힙 사용량 최대 증가분
+     * 단계 경계와 schema 기록 중에 샘플링한 현재 사용량(getHeapMemoryUsage) 기준이다.
+     * JVM 전역 peak 값을 초기화하지 않으므로 동시에 도는 동기화끼리 서로의 값을 지우지 않지만,
+     * 샘플 사이의 순간 최대치는 놓칠 수 있고 같은 시간대의 다른 작업 할당도 함께 잡힌다.
+     */
+    public long peakHeapDeltaBytes() {
+        sampleHeap();
+        return Math.max(0, peakHeapUsed - heapUsedAtStart);
+    }
+
+    private void sampleHeap() {
+        peakHeapUsed = Math.max(peakHeapUsed, heapUsed());
+    }
+
+    private static long heapUsed() {
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * String 복사 없이 UTF-8 인코딩 길이 계산
+     */
+    private static int utf8Length(final String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static long toMillis(final long nanos) {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterIndexTest {
+
+    private FilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        final FilterIndex.Builder builder = FilterIndex.builder();
+        builder.add("GET", "/api/v1/user", List.of(), List.of());          // 0
+        builder.add("GET", "/api/v1/user/{id}", List.of(), List.of());     // 1
+        builder.add("GET", "/api/v1/users", List.of(), List.of());         // 2
+        builder.add("GET", "/api/v1/user-profile", List.of(), List.of());  // 3
+        builder.add("GET", "/api/v2/user", List.of(), List.of());          // 4
+        index = builder.build();
+    }
+
+    @Test
+    @DisplayName("path prefix는 segment 경계에서만 일치한다")
+    void retainPathPrefixMatchesSegmentBoundary() {
+        assertThat(retain("/api/v1/user")).isEqualTo(documents(0, 1));
+    }
+
+    @Test
+    @DisplayName("끝의 '/'는 무시한다")
+    void retainPathPrefixIgnoresTrailingSlash() {
+        assertThat(retain("/api/v1/user/")).isEqualTo(documents(0, 1));
+        assertThat(retain("/api/v1/")).isEqualTo(documents(0, 1, 2, 3));
+    }
+
+    @Test
+    @DisplayName("segment 중간에서 끝나는 prefix는 일치하지 않는다")
+    void retainPathPrefixRejectsPartialSegment() {
+        assertThat(retain("/api/v1/use")).isEqualTo(new BitSet());
+    }
+
+    @Test
+    @DisplayName("비어 있거나 '/'만 있는 prefix는 조건으로 쓰지 않는다")
+    void retainPathPrefixWithoutCondition() {
+        assertThat(retain(null)).isEqualTo(index.all());
+        assertThat(retain(" ")).isEqualTo(index.all());
+        assertThat(retain("/")).isEqualTo(index.all());
+    }
+
+    @Test
+    @DisplayName("이미 걸러진 후보와 교집합을 구한다")
+    void retainPathPrefixIntersectsCandidates() {
+        final BitSet candidates = documents(1, 2, 4);
+        index.retainPathPrefix(candidates, "/api/v1/user");
+        assertThat(candidates).isEqualTo(documents(1));
+    }
+
+    private BitSet retain(final String pathPrefix) {
+        final BitSet candidates = index.all();
+        index.retainPathPrefix(candidates, pathPrefix);
+        return candidates;
+    }
+
+    private static BitSet documents(final int... documents) {
+        final BitSet bitSet = new BitSet();
+        for (final int document : documents) {
+            bitSet.set(document);
+        }
+        return bitSet;
+    }
+}
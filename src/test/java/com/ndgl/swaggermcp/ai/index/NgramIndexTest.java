@@ -0,0 +1,95 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        final NgramIndex.Builder builder = NgramIndex.builder();
+        builder.add("/api/v1/users/{userId}", "getUserById", "사용자 조회");   // 0
+        builder.add("/api/v1/members", "signup", "회원 가입");                // 1
+        builder.add("/api/v1/auth/login", "login", "로그인");                 // 2
+        index = builder.build();
+    }
+
+    @Test
+    @DisplayName("완전 일치는 1.0점")
+    void searchExact() {
+        assertThat(index.search("login")).containsExactly(new NgramIndex.Match(2, 1.0f));
+    }
+
+    @Test
+    @DisplayName("인접 문자 교환은 편집 1회로 허용한다")
+    void searchTransposition() {
+        assertThat(documents(index.search("lgoin"))).containsExactly(2);
+        assertThat(index.search("lgoin").get(0).score()).isLessThan(1.0f);
+    }
+
+    @Test
+    @DisplayName("짧은 영문 토큰과 숫자가 섞인 토큰은 오타를 허용하지 않는다")
+    void searchWithoutFuzzyForShortOrNumericTokens() {
+        assertThat(index.search("ib")).isEmpty();
+        assertThat(index.search("v2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 오타는 자모 단위로 비교한다 (회언 → 회원, 로긴 → 로그인)")
+    void searchHangulTypo() {
+        assertThat(documents(index.search("회언"))).containsExactly(1);
+        assertThat(documents(index.search("로긴"))).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("한글 부분 일치 (조사가 붙은 형태, 앞부분만 입력한 경우)")
+    void searchHangulContains() {
+        assertThat(documents(index.search("사용"))).containsExactly(0);
+        assertThat(documents(index.search("회"))).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("여러 토큰은 모두 일치한 문서만 반환한다")
+    void searchAllTokens() {
+        assertThat(documents(index.search("user 조회"))).containsExactly(0);
+        assertThat(index.search("user 로그인")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("점수가 높은 문서가 먼저 온다")
+    void searchOrdersByScore() {
+        final NgramIndex.Builder builder = NgramIndex.builder();
+        builder.add("회원정보");   // 0: 부분 일치
+        builder.add("회원");       // 1: 완전 일치
+        final NgramIndex ordered = builder.build();
+
+        assertThat(documents(ordered.search("회원"))).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("OSA 거리")
+    void osaDistance() {
+        assertThat(NgramIndex.osaDistance("login", "lgoin", 2)).isEqualTo(1);
+        assertThat(NgramIndex.osaDistance("member", "membr", 2)).isEqualTo(1);
+        assertThat(NgramIndex.osaDistance("abcdef", "ab", 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한글 음절을 초성/중성/종성으로 분해한다")
+    void decomposeHangul() {
+        // 회 = ㅎ + ㅚ, 원 = ㅇ + ㅝ + ㄴ
+        assertThat(NgramIndex.decomposeHangul("회원")).isEqualTo("\u1112\u116C\u110B\u116F\u11AB");
+        assertThat(NgramIndex.decomposeHangul("v1 회")).isEqualTo("v1 \u1112\u116C");
+    }
+
+    private static List<Integer> documents(final List<NgramIndex.Match> matches) {
+        return matches.stream().map(NgramIndex.Match::document).toList();
+    }
+}
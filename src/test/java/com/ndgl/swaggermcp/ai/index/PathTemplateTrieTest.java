@@ -0,0 +1,106 @@
+package com.ndgl.swaggermcp.ai.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathTemplateTrieTest {
+
+    private static final String SOURCE = "3f9a0c12";
+    private static final String OTHER_SOURCE = "7b1e44d0";
+
+    @Test
+    @DisplayName("literal segment가 변수보다 먼저 일치한다")
+    void resolvePrefersLiteral() {
+        final PathTemplateTrie trie = PathTemplateTrie.builder()
+                .add(0, SOURCE, "GET", "/users/{userId}")
+                .add(1, SOURCE, "GET", "/users/me")
+                .build();
+
+        assertThat(trie.resolve("GET", "/users/me"))
+                .containsExactly(new PathTemplateTrie.Resolution(1, SOURCE, Map.of()));
+        assertThat(trie.resolve("GET", "/users/42"))
+                .containsExactly(new PathTemplateTrie.Resolution(0, SOURCE, Map.of("userId", "42")));
+    }
+
+    @Test
+    @DisplayName("literal 쪽이 막히면 되돌아가 변수 쪽을 시도한다")
+    void resolveBacktracksToVariable() {
+        final PathTemplateTrie trie = PathTemplateTrie.builder()
+                .add(0, SOURCE, "GET", "/users/me/travels")
+                .add(1, SOURCE, "GET", "/users/{userId}/profile")
+                .build();
+
+        assertThat(trie.resolve("GET", "/users/me/profile"))
+                .containsExactly(new PathTemplateTrie.Resolution(1, SOURCE, Map.of("userId", "me")));
+        assertThat(trie.resolve("GET", "/users/me/travels"))
+                .containsExactly(new PathTemplateTrie.Resolution(0, SOURCE, Map.of()));
+    }
+
+    @Test
+    @DisplayName("되돌아갈 때 실패한 경로의 변수 값은 버린다")
+    void resolveDiscardsValuesOfFailedBranch() {
+        final PathTemplateTrie trie = PathTemplateTrie.builder()
+                .add(0, SOURCE, "GET", "/travels/{travelId}/days/{day}")
+                .add(1, SOURCE, "GET", "/{category}/{id}/photos")
+                .build();
+
+        assertThat(trie.resolve("GET", "/travels/7/photos"))
+                .containsExactly(new PathTemplateTrie.Resolution(1, SOURCE, Map.of("category", "travels", "id", "7")));
+    }
+
+    @Test
+    @DisplayName("segment 안에 섞인 변수는 pattern으로 일치한다")
+    void resolvePatternSegment() {
+        final PathTemplateTrie trie = PathTemplateTrie.builder()
+                .add(0, SOURCE, "GET", "/files/{fileName}.json")
+                .build();
+
+        assertThat(trie.resolve("GET", "/files/report.json"))
+                .containsExactly(new PathTemplateTrie.Resolution(0, SOURCE, Map.of("fileName", "report")));
+        assertThat(trie.resolve("GET", "/files/report.xml")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("scheme/host, query string을 떼고 percent-decoding한 path로 매칭한다")
+    void resolveFullUrl() {
+        final PathTemplateTrie trie = PathTemplateTrie.builder()
+                .add(0, SOURCE, "GET", "/users/{userId}")
+                .build();
+
+        assertThat(trie.resolve("get", "https://api.example.com/users/a%20b+c?expand=true#top"))
+                .containsExactly(new PathTemplateTrie.Resolution(0, SOURCE, Map.of("userId", "a b+c")));
+    }
+
+    @Test
+    @DisplayName("method가 다르거나 segment 수가 다르면 일치하지 않는다")
+    void resolveMismatch() {
+        final PathTemplateTrie trie = PathTemplateTrie.builder()
+                .add(0, SOURCE, "GET", "/users/{userId}")
+                .build();
+
+        assertThat(trie.resolve("DELETE", "/users/42")).isEmpty();
+        assertThat(trie.resolve("GET", "/users/42/extra")).isEmpty();
+        assertThat(trie.resolve("GET", "/users")).isEmpty();
+        assertThat(trie.resolve(null, "/users/42")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 source의 같은 method + template은 모두 반환한다")
+    void resolveAllSources() {
+        final PathTemplateTrie trie = PathTemplateTrie.builder()
+                .add(0, SOURCE, "GET", "/users/{userId}")
+                .add(1, OTHER_SOURCE, "GET", "/users/{id}")
+                .add(2, SOURCE, "GET", "/users/{duplicate}")
+                .build();
+
+        final List<PathTemplateTrie.Resolution> resolutions = trie.resolve("GET", "/users/42");
+        assertThat(resolutions).containsExactly(
+                new PathTemplateTrie.Resolution(0, SOURCE, Map.of("userId", "42")),
+                new PathTemplateTrie.Resolution(1, OTHER_SOURCE, Map.of("id", "42")));
+    }
+}
@@ -0,0 +1,119 @@
+package com.ndgl.swaggermcp.ai.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ndgl.swaggermcp.ai.dto.BudgetedResponse;
+import com.ndgl.swaggermcp.sync.dto.SpecChangeSet;
+import com.ndgl.swaggermcp.sync.dto.SwaggerSyncCompletedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseBudgetSupporterTest {
+
+    private static final String TOOL = "searchApiByKeyword";
+    private static final String TARGET = "user";
+    private static final List<String> RESULT = List.of("first", "second", "third");
+    private static final Function<List<String>, List<?>> UNITS = result -> result;
+
+    private final ResponseBudgetSupporter supporter = new ResponseBudgetSupporter(new ObjectMapper(), 4000, 400);
+
+    @Test
+    @DisplayName("예산과 cursor가 없으면 원본 결과를 그대로 반환한다")
+    void applyWithoutBudget() {
+        assertThat(supporter.apply(TOOL, TARGET, RESULT, UNITS, null, null)).isSameAs(RESULT);
+        assertThat(supporter.apply(TOOL, TARGET, RESULT, UNITS, null, " ")).isSameAs(RESULT);
+    }
+
+    @Test
+    @DisplayName("nextCursor로 다음 offset부터 이어서 조회한다")
+    void cursorContinuesFromOffset() {
+        final BudgetedResponse first = apply(1, null);
+        assertThat(first.offset()).isZero();
+        assertThat(first.items()).hasSize(1);
+        assertThat(first.truncated()).isTrue();
+
+        final BudgetedResponse second = apply(1, first.nextCursor());
+        assertThat(second.offset()).isEqualTo(1);
+
+        final BudgetedResponse rest = apply(null, second.nextCursor());
+        assertThat(rest.offset()).isEqualTo(2);
+        assertThat(rest.items()).hasSize(1);
+        assertThat(rest.truncated()).isFalse();
+        assertThat(rest.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 도구나 대상의 cursor는 거부한다")
+    void rejectCursorOfOtherToolOrTarget() {
+        final String cursor = apply(1, null).nextCursor();
+
+        assertThatThrownBy(() -> supporter.apply("getApiDetail", TARGET, RESULT, UNITS, 1, cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("유효하지 않은 cursor");
+        assertThatThrownBy(() -> supporter.apply(TOOL, "order", RESULT, UNITS, 1, cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("유효하지 않은 cursor");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 cursor는 거부한다")
+    void rejectMalformedCursor() {
+        assertThatThrownBy(() -> apply(1, "not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("유효하지 않은 cursor");
+        assertThatThrownBy(() -> apply(1, encode("v1:1:0:" + TOOL + ":" + TARGET)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("유효하지 않은 cursor");
+        assertThatThrownBy(() -> apply(1, withOffset(apply(1, null).nextCursor(), "x")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("유효하지 않은 cursor");
+    }
+
+    @Test
+    @DisplayName("음수 offset과 결과 범위를 벗어난 offset은 거부한다")
+    void rejectOffsetOutOfRange() {
+        final String cursor = apply(1, null).nextCursor();
+
+        assertThatThrownBy(() -> apply(1, withOffset(cursor, "-1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("유효하지 않은 cursor");
+        assertThatThrownBy(() -> apply(1, withOffset(cursor, "4")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("범위를 벗어났습니다");
+    }
+
+    @Test
+    @DisplayName("동기화 전에 발급한 cursor는 거부한다")
+    void rejectCursorIssuedBeforeSync() {
+        final String cursor = apply(1, null).nextCursor();
+
+        supporter.onSwaggerSyncCompleted(new SwaggerSyncCompletedEvent("file:///specs/a.json", null, 0, SpecChangeSet.empty()));
+
+        assertThatThrownBy(() -> apply(1, cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("다시 동기화되었습니다");
+    }
+
+    private BudgetedResponse apply(final Integer maxTokens, final String cursor) {
+        return (BudgetedResponse) supporter.apply(TOOL, TARGET, RESULT, UNITS, maxTokens, cursor);
+    }
+
+    /**
+     * 발급된 cursor의 offset만 바꾼 cursor (v2:offset:version:tool:target)
+     */
+    private static String withOffset(final String cursor, final String offset) {
+        final String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+        return encode(parts[0] + ":" + offset + ":" + parts[2]);
+    }
+
+    private static String encode(final String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,98 @@
+package com.ndgl.swaggermcp.common.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("burst만큼 한 번에 허용하고 그다음은 다음 토큰까지 남은 시간을 반환한다")
+    void burstThenReject() {
+        final TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(100 * MILLIS);
+        assertThat(bucket.tryAcquire(40 * MILLIS)).isEqualTo(60 * MILLIS);
+    }
+
+    @Test
+    @DisplayName("초당 rate개씩 다시 채워진다")
+    void refillAtRate() {
+        final TokenBucket bucket = new TokenBucket(10, 3, 0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        assertThat(bucket.tryAcquire(100 * MILLIS)).isZero();
+        assertThat(bucket.tryAcquire(100 * MILLIS)).isPositive();
+        assertThat(bucket.tryAcquire(200 * MILLIS)).isZero();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 burst보다 많이 쌓이지 않는다")
+    void idleDoesNotExceedBurst() {
+        final TokenBucket bucket = new TokenBucket(10, 3, 0);
+        final long later = 60_000 * MILLIS;
+
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isPositive();
+    }
+
+    @Test
+    @DisplayName("동시에 호출해도 허용 수는 burst를 넘지 않는다")
+    void concurrentAcquireHonorsBurst() throws Exception {
+        final int burst = 50;
+        final int threads = 8;
+        final TokenBucket bucket = new TokenBucket(1, burst, 0);
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int acquired = 0;
+                    for (int i = 0; i < burst; i++) {
+                        if (bucket.tryAcquire(0) == 0) {
+                            acquired++;
+                        }
+                    }
+                    return acquired;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (final Future<Integer> result : results) {
+                total += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(burst);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("rate는 0보다, burst는 1 이상이어야 한다")
+    void rejectInvalidArguments() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ndgl.swaggermcp.sync.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ndgl.swaggermcp.sync.dto.SpecChangeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentHashSupportTest {
+
+    private final ContentHashSupport contentHashSupport = new ContentHashSupport(new ObjectMapper());
+
+    @Test
+    @DisplayName("추가 / 삭제 / 변경 / 유지 operation을 구분한다")
+    void diffClassifiesOperations() {
+        final Map<String, Map<String, String>> previous = new HashMap<>();
+        previous.put("a GET /users", Map.of("info", "h1"));
+        previous.put("a POST /users", Map.of("info", "h2", "request", "h3"));
+        previous.put("a DELETE /users/{id}", Map.of("info", "h4"));
+
+        final Map<String, Map<String, String>> current = new LinkedHashMap<>();
+        current.put("a GET /users", Map.of("info", "h1"));
+        current.put("a POST /users", Map.of("info", "h2", "request", "changed"));
+        current.put("a PUT /users/{id}", Map.of("info", "h5"));
+
+        final SpecChangeSet changes = contentHashSupport.diff(previous, current);
+
+        assertThat(changes.added()).containsExactly("a PUT /users/{id}");
+        assertThat(changes.removed()).containsExactly("a DELETE /users/{id}");
+        assertThat(changes.modified()).containsExactlyEntriesOf(Map.of("a POST /users", List.of("request")));
+        assertThat(changes.unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한쪽에만 있는 섹션도 변경 섹션이다")
+    void diffReportsAddedAndRemovedSections() {
+        final Map<String, Map<String, String>> previous = Map.of(
+                "a POST /users", Map.of("info", "h1", "response.200", "h2"));
+        final Map<String, Map<String, String>> current = Map.of(
+                "a POST /users", Map.of("info", "h1", "response.201", "h2", "error.400", "h3"));
+
+        final SpecChangeSet changes = contentHashSupport.diff(previous, current);
+
+        assertThat(changes.modified().get("a POST /users"))
+                .containsExactly("error.400", "response.200", "response.201");
+    }
+
+    @Test
+    @DisplayName("해시 저장 전 operation은 변경 섹션을 unknown으로 표시한다")
+    void diffMarksMissingHashesUnknown() {
+        final Map<String, Map<String, String>> previous = new HashMap<>();
+        previous.put("a GET /users", null);
+
+        final SpecChangeSet changes = contentHashSupport.diff(previous, Map.of("a GET /users", Map.of("info", "h1")));
+
+        assertThat(changes.modified()).containsExactlyEntriesOf(Map.of("a GET /users", List.of("unknown")));
+        assertThat(changes.unchanged()).isZero();
+    }
+
+    @Test
+    @DisplayName("추가 / 삭제 목록은 정렬되어 있다")
+    void diffSortsOperations() {
+        final Map<String, Map<String, String>> previous = Map.of(
+                "a GET /z", Map.of(), "a GET /m", Map.of());
+        final Map<String, Map<String, String>> current = Map.of(
+                "a GET /y", Map.of(), "a GET /b", Map.of());
+
+        final SpecChangeSet changes = contentHashSupport.diff(previous, current);
+
+        assertThat(changes.added()).containsExactly("a GET /b", "a GET /y");
+        assertThat(changes.removed()).containsExactly("a GET /m", "a GET /z");
+        assertThat(changes.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 내용이면 변경 내역이 비어 있다")
+    void diffWithoutChanges() {
+        final Map<String, Map<String, String>> hashes = Map.of("a GET /users", Map.of("info", "h1"));
+
+        final SpecChangeSet changes = contentHashSupport.diff(hashes, hashes);
+
+        assertThat(changes.isEmpty()).isTrue();
+        assertThat(changes.unchanged()).isEqualTo(1);
+    }
+}